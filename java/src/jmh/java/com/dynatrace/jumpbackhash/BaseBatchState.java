@@ -0,0 +1,71 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Thread)
+public abstract class BaseBatchState {
+
+  static final int MAX_BATCH_SIZE = 1 << 16;
+  private static final int NUM_KEYS = MAX_BATCH_SIZE << 1;
+  private static final RandomGeneratorFactory<?> RANDOM_FACTORY =
+      RandomGeneratorFactory.of("L32X64MixRandom");
+
+  @Param({
+    "1", "2", "3", "16", "17", "256", "257", "4096", "4097", "65536", "65537", "1048576", "1048577"
+  })
+  int numBuckets;
+
+  private final long[] keys = new long[NUM_KEYS];
+  private final int[] buckets = new int[NUM_KEYS];
+  private int keyIndex;
+
+  @Setup(Level.Iteration)
+  public void setup() {
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create();
+    for (int i = 0; i < NUM_KEYS; ++i) {
+      keys[i] = randomGenerator.nextLong();
+    }
+    keyIndex = 0;
+    initializeMapper();
+  }
+
+  // batchSize must be a power of two not greater than MAX_BATCH_SIZE
+  int[] hash(int batchSize) {
+    int fromIndex = keyIndex;
+    keyIndex = (keyIndex + batchSize) & (MAX_BATCH_SIZE - 1);
+    hash(keys, fromIndex, fromIndex + batchSize, numBuckets, buckets);
+    return buckets;
+  }
+
+  abstract void hash(long[] keys, int fromIndex, int toIndex, int numBuckets, int[] buckets);
+
+  abstract void initializeMapper();
+}
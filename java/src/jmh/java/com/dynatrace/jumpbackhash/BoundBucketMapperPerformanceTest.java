@@ -0,0 +1,153 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import org.openjdk.jmh.annotations.*;
+
+// compares the cost of mapping a key with a bucket mapper bound to the number of buckets to that of
+// the corresponding unbound bucket mapper
+public class BoundBucketMapperPerformanceTest {
+
+  @State(Scope.Thread)
+  public static class TestState {
+
+    private static final int NUM_KEYS = 1 << 12;
+    private static final RandomGeneratorFactory<?> RANDOM_FACTORY =
+        RandomGeneratorFactory.of("L32X64MixRandom");
+
+    @Param({
+      "BinomialHash",
+      "ConsistentHashRing",
+      "FastModMapper",
+      "FastRangeMapper",
+      "ICWS",
+      "ICWSFixedPoint",
+      "ICWSSplitMix64",
+      "JumpBackHash",
+      "JumpBackHash32",
+      "JumpBackHash32PCG32",
+      "JumpBackHash32SplitMix64",
+      "JumpBackHash32Xoshiro128StarStar",
+      "JumpBackHash64",
+      "JumpBackHashBranchFree",
+      "JumpBackHashReference",
+      "JumpBackHashSplitMix64",
+      "JumpBackHashUseSeedAsFirstRandomValue",
+      "JumpBackHashUseSeedAsFirstRandomValueLCG",
+      "JumpBackHashUseSeedAsFirstRandomValueVectorized",
+      "JumpBackHashUseSeedAsFirstRandomValueXorShift",
+      "JumpHash",
+      "JumpHashDivisionFree",
+      "JumpHashDivisionFreeLCG",
+      "JumpHashSplitMix64",
+      "MaglevHash",
+      "ModuloMapper",
+      "PowerConsistentHash",
+      "RandomMapper",
+      "RandomMapperSplitMix64",
+      "RendezvousHash"
+    })
+    String mapperName;
+
+    @Param({"10", "1000", "65536"})
+    int numBuckets;
+
+    private final long[] keys = new long[NUM_KEYS];
+    private int keyIndex;
+    private BucketMapper mapper;
+    private BoundBucketMapper boundMapper;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+      RandomGenerator randomGenerator = RANDOM_FACTORY.create();
+      for (int i = 0; i < NUM_KEYS; ++i) {
+        keys[i] = randomGenerator.nextLong();
+      }
+      keyIndex = 0;
+      mapper = createMapper(mapperName);
+      boundMapper = mapper.forBuckets(numBuckets);
+    }
+
+    long getKey() {
+      return keys[(NUM_KEYS - 1) & keyIndex++];
+    }
+  }
+
+  private static BucketMapper createMapper(String mapperName) {
+    return switch (mapperName) {
+      case "BinomialHash" -> new BinomialHash(new SplitMix64V1());
+      case "ConsistentHashRing" -> new ConsistentHashRing(16);
+      case "FastModMapper" -> new FastModMapper();
+      case "FastRangeMapper" -> new FastRangeMapper();
+      case "ICWS" -> new ICWS(new SplitMix64V1());
+      case "ICWSFixedPoint" -> new ICWSFixedPoint(new SplitMix64V1());
+      case "ICWSSplitMix64" -> new ICWSSplitMix64();
+      case "JumpBackHash" -> new JumpBackHash(new SplitMix64V1());
+      case "JumpBackHash32" -> new JumpBackHash32(new SplitMix64V1());
+      case "JumpBackHash32PCG32" -> new JumpBackHash32PCG32();
+      case "JumpBackHash32SplitMix64" -> new JumpBackHash32SplitMix64();
+      case "JumpBackHash32Xoshiro128StarStar" -> new JumpBackHash32Xoshiro128StarStar();
+      case "JumpBackHash64" -> new JumpBackHash64(new SplitMix64V1());
+      case "JumpBackHashBranchFree" -> new JumpBackHashBranchFree(new SplitMix64V1());
+      case "JumpBackHashReference" -> new JumpBackHashReference(new SplitMix64V1());
+      case "JumpBackHashSplitMix64" -> new JumpBackHashSplitMix64();
+      case "JumpBackHashUseSeedAsFirstRandomValue" ->
+          new JumpBackHashUseSeedAsFirstRandomValue(new SplitMix64V1());
+      case "JumpBackHashUseSeedAsFirstRandomValueLCG" ->
+          new JumpBackHashUseSeedAsFirstRandomValueLCG();
+      case "JumpBackHashUseSeedAsFirstRandomValueVectorized" ->
+          new JumpBackHashUseSeedAsFirstRandomValueVectorized(new SplitMix64V1());
+      case "JumpBackHashUseSeedAsFirstRandomValueXorShift" ->
+          new JumpBackHashUseSeedAsFirstRandomValueXorShift();
+      case "JumpHash" -> new JumpHash(new SplitMix64V1());
+      case "JumpHashDivisionFree" -> new JumpHashDivisionFree();
+      case "JumpHashDivisionFreeLCG" -> new JumpHashDivisionFreeLCG();
+      case "JumpHashSplitMix64" -> new JumpHashSplitMix64();
+      case "MaglevHash" -> new MaglevHash();
+      case "ModuloMapper" -> new ModuloMapper();
+      case "PowerConsistentHash" -> new PowerConsistentHash(new SplitMix64V1());
+      case "RandomMapper" -> new RandomMapper(new SplitMix64V1());
+      case "RandomMapperSplitMix64" -> new RandomMapperSplitMix64();
+      case "RendezvousHash" -> new RendezvousHash();
+      default -> throw new IllegalArgumentException("unknown bucket mapper " + mapperName);
+    };
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int getBucket(TestState testState) {
+    return testState.mapper.getBucket(testState.getKey(), testState.numBuckets);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int getBucketBound(TestState testState) {
+    return testState.boundMapper.getBucket(testState.getKey());
+  }
+}
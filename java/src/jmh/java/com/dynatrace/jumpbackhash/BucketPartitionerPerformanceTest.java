@@ -0,0 +1,112 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import org.openjdk.jmh.annotations.*;
+
+public class BucketPartitionerPerformanceTest {
+
+  @State(Scope.Thread)
+  public static class TestState {
+
+    private static final int NUM_KEYS = 1 << 20;
+    private static final RandomGeneratorFactory<?> RANDOM_FACTORY =
+        RandomGeneratorFactory.of("L32X64MixRandom");
+
+    @Param({"16", "256", "4096", "65536"})
+    int numBuckets;
+
+    private final long[] keys = new long[NUM_KEYS];
+    private final int[] payload = new int[NUM_KEYS];
+    private final long[] partitionedKeys = new long[NUM_KEYS];
+    private final int[] partitionedPayload = new int[NUM_KEYS];
+    private final BucketPartitioner partitioner =
+        new BucketPartitioner(() -> new JumpBackHash(new SplitMix64V1()));
+    private final BucketPartitioner parallelPartitioner =
+        new BucketPartitioner(
+            () -> new JumpBackHash(new SplitMix64V1()), ForkJoinPool.commonPool());
+    private final BucketMapper mapper = new JumpBackHash(new SplitMix64V1());
+
+    @Setup(Level.Iteration)
+    public void setup() {
+      RandomGenerator randomGenerator = RANDOM_FACTORY.create();
+      for (int i = 0; i < NUM_KEYS; ++i) {
+        keys[i] = randomGenerator.nextLong();
+        payload[i] = i;
+      }
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public int[] partition(TestState testState) {
+    return testState.partitioner.partition(
+        testState.keys, testState.numBuckets, testState.partitionedKeys);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public int[] partitionWithPayload(TestState testState) {
+    return testState.partitioner.partition(
+        testState.keys,
+        testState.payload,
+        testState.numBuckets,
+        testState.partitionedKeys,
+        testState.partitionedPayload);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public int[] partitionParallel(TestState testState) {
+    return testState.parallelPartitioner.partition(
+        testState.keys, testState.numBuckets, testState.partitionedKeys);
+  }
+
+  // single-pass counting sort scattering the keys directly to their final positions
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public int[] partitionDirect(TestState testState) {
+    long[] keys = testState.keys;
+    int numBuckets = testState.numBuckets;
+    int[] buckets = new int[keys.length];
+    testState.mapper.getBuckets(keys, numBuckets, buckets);
+    int[] offsets = new int[numBuckets + 1];
+    for (int bucket : buckets) offsets[bucket + 1] += 1;
+    for (int bucket = 0; bucket < numBuckets; ++bucket) offsets[bucket + 1] += offsets[bucket];
+    int[] cursor = offsets.clone();
+    for (int i = 0; i < keys.length; ++i) testState.partitionedKeys[cursor[buckets[i]]++] = keys[i];
+    return offsets;
+  }
+}
@@ -0,0 +1,134 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import org.openjdk.jmh.annotations.*;
+
+public class ConsistentHashRingPerformanceTest {
+
+  public static class TestState extends BaseState {
+
+    @Param({"16"})
+    int numVirtualNodes;
+
+    private ConsistentHashRing mapper;
+
+    @Override
+    void initializeMapper() {
+      mapper = new ConsistentHashRing(numVirtualNodes);
+      mapper.getBucket(0, numBuckets); // build the ring outside of the measurement
+    }
+
+    @Override
+    int hash(long key, int numBuckets) {
+      return mapper.getBucket(key, numBuckets);
+    }
+  }
+
+  // ring based on a TreeMap with boxed entries as baseline, limited to fewer buckets to fit into
+  // the default heap
+  @State(Scope.Thread)
+  public static class TreeMapState {
+
+    private static final int NUM_KEYS = 1 << 12;
+    private static final RandomGeneratorFactory<?> RANDOM_FACTORY =
+        RandomGeneratorFactory.of("L32X64MixRandom");
+
+    @Param({"1", "10", "100", "1000", "10000", "65536"})
+    int numBuckets;
+
+    @Param({"16"})
+    int numVirtualNodes;
+
+    private final long[] keys = new long[NUM_KEYS];
+    private int keyIndex;
+    private TreeMap<Long, Integer> ring;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+      RandomGenerator randomGenerator = RANDOM_FACTORY.create();
+      for (int i = 0; i < NUM_KEYS; ++i) {
+        keys[i] = randomGenerator.nextLong();
+      }
+      keyIndex = 0;
+      ring = createTreeMapRing(numBuckets, numVirtualNodes);
+    }
+
+    long getKey() {
+      return keys[(NUM_KEYS - 1) & keyIndex++];
+    }
+  }
+
+  private static TreeMap<Long, Integer> createTreeMapRing(int numBuckets, int numVirtualNodes) {
+    TreeMap<Long, Integer> ring = new TreeMap<>();
+    for (int b = 0; b < numBuckets; ++b) {
+      long state = SplitMix64V1.mix(b * SplitMix64V1.GOLDEN_GAMMA);
+      for (int i = 0; i < numVirtualNodes; ++i) {
+        state += SplitMix64V1.GOLDEN_GAMMA;
+        ring.put(SplitMix64V1.mix(state), b);
+      }
+    }
+    return ring;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int getBucket(TestState testState) {
+    return testState.hash();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int getBucketTreeMap(TreeMapState testState) {
+    Map.Entry<Long, Integer> entry = testState.ring.ceilingEntry(testState.getKey());
+    return (entry != null) ? entry.getValue() : testState.ring.firstEntry().getValue();
+  }
+
+  // builds a new ring, run with "-prof gc" to get the allocated bytes per build, which include the
+  // temporary sorted array of the same size as the ring
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public ConsistentHashRing buildRing(TreeMapState testState) {
+    ConsistentHashRing mapper = new ConsistentHashRing(testState.numVirtualNodes);
+    mapper.getBucket(0, testState.numBuckets);
+    return mapper;
+  }
+
+  // builds a new TreeMap ring, run with "-prof gc" to get the allocated bytes per build
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public TreeMap<Long, Integer> buildTreeMap(TreeMapState testState) {
+    return createTreeMapRing(testState.numBuckets, testState.numVirtualNodes);
+  }
+}
@@ -0,0 +1,92 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import org.openjdk.jmh.annotations.*;
+
+public class DistinctBucketsPerformanceTest {
+
+  @State(Scope.Thread)
+  public static class TestState {
+
+    private static final int NUM_KEYS = 1 << 12;
+    private static final RandomGeneratorFactory<?> RANDOM_FACTORY =
+        RandomGeneratorFactory.of("L32X64MixRandom");
+
+    @Param({"10", "1000", "1000000"})
+    int numBuckets;
+
+    @Param({"2", "3", "5"})
+    int numDistinctBuckets;
+
+    private final long[] keys = new long[NUM_KEYS];
+    private int keyIndex;
+    private final BucketMapper mapper = new JumpBackHash(new SplitMix64V1());
+    private int[] buckets;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+      RandomGenerator randomGenerator = RANDOM_FACTORY.create();
+      for (int i = 0; i < NUM_KEYS; ++i) {
+        keys[i] = randomGenerator.nextLong();
+      }
+      keyIndex = 0;
+      buckets = new int[numDistinctBuckets];
+    }
+
+    long getKey() {
+      return keys[(NUM_KEYS - 1) & keyIndex++];
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int[] getDistinctBuckets(TestState testState) {
+    testState.mapper.getDistinctBuckets(
+        testState.getKey(), testState.numBuckets, testState.buckets);
+    return testState.buckets;
+  }
+
+  // rehashes the key and collects the bucket indices in a set until enough distinct ones are found
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int[] getDistinctBucketsNaive(TestState testState) {
+    long hash = testState.getKey();
+    Set<Integer> distinctBuckets = new HashSet<>();
+    int i = 0;
+    while (distinctBuckets.size() < testState.numDistinctBuckets) {
+      int bucket = testState.mapper.getBucket(hash, testState.numBuckets);
+      if (distinctBuckets.add(bucket)) testState.buckets[i++] = bucket;
+      hash = SplitMix64V1.mix(hash + SplitMix64V1.GOLDEN_GAMMA);
+    }
+    return testState.buckets;
+  }
+}
@@ -0,0 +1,103 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import com.dynatrace.hash4j.consistent.ConsistentBucketHasher;
+import com.dynatrace.hash4j.consistent.ConsistentHashing;
+import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import org.openjdk.jmh.annotations.*;
+
+// the implementations of the hash4j library, to be compared with JumpHashPerformanceTest,
+// JumpBackHashPerformanceTest, and ICWSPerformanceTest, LibraryEquivalenceTest checks whether they
+// return the same bucket indices
+public class Hash4jPerformanceTest {
+
+  public static class JumpHashState extends BaseState {
+
+    private ConsistentBucketHasher hasher;
+
+    @Override
+    void initializeMapper() {
+      hasher = ConsistentHashing.jumpHash(PseudoRandomGeneratorProvider.splitMix64_V1());
+    }
+
+    @Override
+    int hash(long key, int numBuckets) {
+      return hasher.getBucket(key, numBuckets);
+    }
+  }
+
+  public static class JumpBackHashState extends BaseState {
+
+    private ConsistentBucketHasher hasher;
+
+    @Override
+    void initializeMapper() {
+      hasher = ConsistentHashing.jumpBackHash(PseudoRandomGeneratorProvider.splitMix64_V1());
+    }
+
+    @Override
+    int hash(long key, int numBuckets) {
+      return hasher.getBucket(key, numBuckets);
+    }
+  }
+
+  public static class ICWSState extends BaseState {
+
+    private ConsistentBucketHasher hasher;
+
+    @Override
+    void initializeMapper() {
+      hasher =
+          ConsistentHashing.improvedConsistentWeightedSampling(
+              PseudoRandomGeneratorProvider.splitMix64_V1());
+    }
+
+    @Override
+    int hash(long key, int numBuckets) {
+      return hasher.getBucket(key, numBuckets);
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int getBucketJumpHash(JumpHashState state) {
+    return state.hash();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int getBucketJumpBackHash(JumpBackHashState state) {
+    return state.hash();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int getBucketICWS(ICWSState state) {
+    return state.hash();
+  }
+}
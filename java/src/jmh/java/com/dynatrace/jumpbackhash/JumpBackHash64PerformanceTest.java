@@ -0,0 +1,97 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import org.openjdk.jmh.annotations.*;
+
+public class JumpBackHash64PerformanceTest {
+
+  public static class TestState extends BaseState {
+
+    private JumpBackHash64 mapper;
+
+    @Override
+    void initializeMapper() {
+      mapper = new JumpBackHash64(new SplitMix64V1());
+    }
+
+    @Override
+    int hash(long key, int numBuckets) {
+      return mapper.getBucket(key, numBuckets);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class LongTestState {
+
+    private static final int NUM_KEYS = 1 << 12;
+    private static final RandomGeneratorFactory<?> RANDOM_FACTORY =
+        RandomGeneratorFactory.of("L32X64MixRandom");
+
+    @Param({
+      "4294967296", // 2^32
+      "4294967297", // 2^32 + 1
+      "1099511627776", // 2^40
+      "1099511627777", // 2^40 + 1
+      "4611686018427387904", // 2^62
+      "4611686018427387905", // 2^62 + 1
+      "9223372036854775807" // 2^63 - 1
+    })
+    long numBuckets;
+
+    private final long[] keys = new long[NUM_KEYS];
+    private int keyIndex;
+    private final JumpBackHash64 mapper = new JumpBackHash64(new SplitMix64V1());
+
+    @Setup(Level.Iteration)
+    public void setup() {
+      RandomGenerator randomGenerator = RANDOM_FACTORY.create();
+      for (int i = 0; i < NUM_KEYS; ++i) {
+        keys[i] = randomGenerator.nextLong();
+      }
+      keyIndex = 0;
+    }
+
+    long hash() {
+      return mapper.getBucket(keys[(NUM_KEYS - 1) & keyIndex++], numBuckets);
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int getBucket(TestState testState) {
+    return testState.hash();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public long getBucketWithLongNumBuckets(LongTestState testState) {
+    return testState.hash();
+  }
+}
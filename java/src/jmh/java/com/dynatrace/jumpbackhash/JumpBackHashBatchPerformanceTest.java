@@ -0,0 +1,76 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import org.openjdk.jmh.annotations.*;
+
+// reports the average time per key
+public class JumpBackHashBatchPerformanceTest {
+
+  public static class TestState extends BaseBatchState {
+
+    private JumpBackHash mapper;
+
+    @Override
+    void initializeMapper() {
+      mapper = new JumpBackHash(new SplitMix64V1());
+    }
+
+    @Override
+    void hash(long[] keys, int fromIndex, int toIndex, int numBuckets, int[] buckets) {
+      mapper.getBuckets(keys, fromIndex, toIndex, numBuckets, buckets);
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OperationsPerInvocation(16)
+  public int[] getBuckets16(TestState testState) {
+    return testState.hash(16);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OperationsPerInvocation(256)
+  public int[] getBuckets256(TestState testState) {
+    return testState.hash(256);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OperationsPerInvocation(4096)
+  public int[] getBuckets4096(TestState testState) {
+    return testState.hash(4096);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OperationsPerInvocation(65536)
+  public int[] getBuckets65536(TestState testState) {
+    return testState.hash(65536);
+  }
+}
@@ -0,0 +1,121 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import org.openjdk.jmh.annotations.*;
+
+// reports the number of keys per time unit
+// more warmup iterations are needed until the Vector API calls are compiled to vector instructions
+@Warmup(iterations = 10)
+public class JumpBackHashUseSeedAsFirstRandomValueVectorizedPerformanceTest {
+
+  public static class ScalarState extends BaseBatchState {
+
+    private JumpBackHashUseSeedAsFirstRandomValue mapper;
+
+    @Override
+    void initializeMapper() {
+      mapper = new JumpBackHashUseSeedAsFirstRandomValue(new SplitMix64V1());
+    }
+
+    @Override
+    void hash(long[] keys, int fromIndex, int toIndex, int numBuckets, int[] buckets) {
+      mapper.getBuckets(keys, fromIndex, toIndex, numBuckets, buckets);
+    }
+  }
+
+  public static class VectorizedState extends BaseBatchState {
+
+    private JumpBackHashUseSeedAsFirstRandomValueVectorized mapper;
+
+    @Override
+    void initializeMapper() {
+      mapper = new JumpBackHashUseSeedAsFirstRandomValueVectorized(new SplitMix64V1());
+    }
+
+    @Override
+    void hash(long[] keys, int fromIndex, int toIndex, int numBuckets, int[] buckets) {
+      mapper.getBuckets(keys, fromIndex, toIndex, numBuckets, buckets);
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OperationsPerInvocation(16)
+  public int[] getScalarBuckets16(ScalarState state) {
+    return state.hash(16);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OperationsPerInvocation(256)
+  public int[] getScalarBuckets256(ScalarState state) {
+    return state.hash(256);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OperationsPerInvocation(4096)
+  public int[] getScalarBuckets4096(ScalarState state) {
+    return state.hash(4096);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OperationsPerInvocation(65536)
+  public int[] getScalarBuckets65536(ScalarState state) {
+    return state.hash(65536);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OperationsPerInvocation(16)
+  public int[] getVectorizedBuckets16(VectorizedState state) {
+    return state.hash(16);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OperationsPerInvocation(256)
+  public int[] getVectorizedBuckets256(VectorizedState state) {
+    return state.hash(256);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OperationsPerInvocation(4096)
+  public int[] getVectorizedBuckets4096(VectorizedState state) {
+    return state.hash(4096);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OperationsPerInvocation(65536)
+  public int[] getVectorizedBuckets65536(VectorizedState state) {
+    return state.hash(65536);
+  }
+}
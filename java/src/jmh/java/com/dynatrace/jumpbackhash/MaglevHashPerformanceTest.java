@@ -0,0 +1,103 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import org.openjdk.jmh.annotations.*;
+
+public class MaglevHashPerformanceTest {
+
+  @State(Scope.Thread)
+  public static class TestState {
+
+    private static final int NUM_KEYS = 1 << 12;
+    private static final RandomGeneratorFactory<?> RANDOM_FACTORY =
+        RandomGeneratorFactory.of("L32X64MixRandom");
+
+    @Param({"10", "100", "1000", "10000"})
+    int numBuckets;
+
+    @Param({"65537", "655373"})
+    int tableSize;
+
+    private final long[] keys = new long[NUM_KEYS];
+    private int keyIndex;
+    private MaglevHash mapper;
+    private final JumpBackHash jumpBackHash = new JumpBackHash(new SplitMix64V1());
+
+    @Setup(Level.Iteration)
+    public void setup() {
+      RandomGenerator randomGenerator = RANDOM_FACTORY.create();
+      for (int i = 0; i < NUM_KEYS; ++i) {
+        keys[i] = randomGenerator.nextLong();
+      }
+      keyIndex = 0;
+      mapper = new MaglevHash(tableSize);
+      mapper.getBucket(0, numBuckets); // build the table outside of the measurement
+    }
+
+    long getKey() {
+      return keys[(NUM_KEYS - 1) & keyIndex++];
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int getBucket(TestState testState) {
+    return testState.mapper.getBucket(testState.getKey(), testState.numBuckets);
+  }
+
+  // JumpBackHash for comparison with the same number of buckets
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int getBucketJumpBackHash(TestState testState) {
+    return testState.jumpBackHash.getBucket(testState.getKey(), testState.numBuckets);
+  }
+
+  // builds a new mapper, run with "-prof gc" to get the allocated bytes per build, which divided by
+  // the number of buckets gives the memory per bucket
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public MaglevHash buildTable(TestState testState) {
+    MaglevHash mapper = new MaglevHash(testState.tableSize);
+    mapper.getBucket(0, testState.numBuckets);
+    return mapper;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public MaglevHash buildTableParallel(TestState testState) {
+    MaglevHash mapper = new MaglevHash(testState.tableSize, ForkJoinPool.commonPool());
+    mapper.getBucket(0, testState.numBuckets);
+    return mapper;
+  }
+}
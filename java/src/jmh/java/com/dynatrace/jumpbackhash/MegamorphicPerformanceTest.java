@@ -0,0 +1,194 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import org.openjdk.jmh.annotations.*;
+
+// measures bucket mappers after the type profiles of the BucketMapper, BoundBucketMapper, and
+// PseudoRandomGenerator call sites have been polluted with numTypes different implementations each,
+// numTypes = 1 corresponds to the monomorphic case measured by all other performance tests,
+// python/megamorphic.py reports the slowdown relative to the monomorphic case
+public class MegamorphicPerformanceTest {
+
+  private static final int BATCH_SIZE = 256;
+  private static final int NUM_POLLUTION_ITERATIONS = 1 << 16;
+
+  private static final List<String> MAPPER_NAMES =
+      List.of(
+          "JumpBackHash",
+          "JumpBackHashSplitMix64",
+          "JumpBackHashWyRand",
+          "JumpHash",
+          "JumpHashSplitMix64",
+          "RandomMapper",
+          "RandomMapperSplitMix64",
+          "ModuloMapper");
+
+  private static final List<Supplier<PseudoRandomGenerator>> GENERATORS =
+      List.of(
+          SplitMix64V1::new,
+          WyRand::new,
+          Xoroshiro128PlusPlus::new,
+          RomuDuoJr::new,
+          PCG64::new);
+
+  @State(Scope.Thread)
+  public static class TestState {
+
+    private static final int NUM_KEYS = 1 << 12;
+    private static final RandomGeneratorFactory<?> RANDOM_FACTORY =
+        RandomGeneratorFactory.of("L32X64MixRandom");
+
+    @Param({
+      "JumpBackHash",
+      "JumpBackHashSplitMix64",
+      "JumpBackHashWyRand",
+      "JumpHash",
+      "JumpHashSplitMix64",
+      "RandomMapper",
+      "RandomMapperSplitMix64",
+      "ModuloMapper"
+    })
+    String mapperName;
+
+    @Param({"1", "2", "3", "5"})
+    int numTypes;
+
+    @Param({"10", "1000", "1000000"})
+    int numBuckets;
+
+    private final long[] keys = new long[NUM_KEYS];
+    private final int[] buckets = new int[NUM_KEYS];
+    private int keyIndex;
+    private BucketMapper mapper;
+    private BoundBucketMapper boundMapper;
+
+    // JMH forks a new JVM for each parameter combination, therefore the type profiles are only
+    // polluted by the implementations exercised here
+    @Setup(Level.Trial)
+    public void pollute() {
+      RandomGenerator randomGenerator = RANDOM_FACTORY.create();
+      for (int i = 0; i < NUM_KEYS; ++i) {
+        keys[i] = randomGenerator.nextLong();
+      }
+      List<String> mapperNames =
+          MAPPER_NAMES.stream()
+              .filter(name -> !name.equals(mapperName))
+              .limit(numTypes - 1)
+              .toList();
+      for (int i = 0; i < NUM_POLLUTION_ITERATIONS; ++i) {
+        // the mapper under test is exercised as well, so that all numTypes types show up in the
+        // type profiles in an order that does not favor the mapper under test
+        for (int j = 0; j < numTypes; ++j) {
+          BucketMapper m =
+              createMapper(j == 0 ? mapperName : mapperNames.get(j - 1))
+                  .apply(GENERATORS.get((i + j) % numTypes).get());
+          long key = keys[i & (NUM_KEYS - 1)];
+          getBucket(m, key, numBuckets);
+          getBucket(m.forBuckets(numBuckets), key);
+          if ((i & (BATCH_SIZE - 1)) == 0) getBuckets(m, keys, 0, numBuckets, buckets);
+        }
+      }
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+      keyIndex = 0;
+      mapper = createMapper(mapperName).apply(new SplitMix64V1());
+      boundMapper = mapper.forBuckets(numBuckets);
+    }
+
+    long getKey() {
+      return keys[(NUM_KEYS - 1) & keyIndex++];
+    }
+
+    int getFromIndex() {
+      int fromIndex = keyIndex;
+      keyIndex = (keyIndex + BATCH_SIZE) & (NUM_KEYS - 1);
+      return fromIndex;
+    }
+  }
+
+  // the mappers with a built-in pseudo-random generator ignore the given one
+  private static Function<PseudoRandomGenerator, BucketMapper> createMapper(String mapperName) {
+    return switch (mapperName) {
+      case "JumpBackHash" -> JumpBackHash::new;
+      case "JumpBackHashSplitMix64" -> g -> new JumpBackHashSplitMix64();
+      case "JumpBackHashWyRand" -> g -> new JumpBackHashWyRand();
+      case "JumpHash" -> JumpHash::new;
+      case "JumpHashSplitMix64" -> g -> new JumpHashSplitMix64();
+      case "RandomMapper" -> RandomMapper::new;
+      case "RandomMapperSplitMix64" -> g -> new RandomMapperSplitMix64();
+      case "ModuloMapper" -> g -> new ModuloMapper();
+      default -> throw new IllegalArgumentException("unknown bucket mapper " + mapperName);
+    };
+  }
+
+  // the call sites whose type profiles are polluted, the benchmarks must go through them as well
+  private static int getBucket(BucketMapper mapper, long key, int numBuckets) {
+    return mapper.getBucket(key, numBuckets);
+  }
+
+  private static int getBucket(BoundBucketMapper boundMapper, long key) {
+    return boundMapper.getBucket(key);
+  }
+
+  private static int[] getBuckets(
+      BucketMapper mapper, long[] keys, int fromIndex, int numBuckets, int[] buckets) {
+    mapper.getBuckets(keys, fromIndex, fromIndex + BATCH_SIZE, numBuckets, buckets);
+    return buckets;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int getBucket(TestState testState) {
+    return getBucket(testState.mapper, testState.getKey(), testState.numBuckets);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int getBucketBound(TestState testState) {
+    return getBucket(testState.boundMapper, testState.getKey());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OperationsPerInvocation(BATCH_SIZE)
+  public int[] getBuckets(TestState testState) {
+    return getBuckets(
+        testState.mapper,
+        testState.keys,
+        testState.getFromIndex(),
+        testState.numBuckets,
+        testState.buckets);
+  }
+}
@@ -0,0 +1,164 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import org.openjdk.jmh.annotations.*;
+
+// measures all combinations of bucket mappers and pseudo-random generators, and the cost per random
+// value of the pseudo-random generators, which multiplied with the mean number of consumed random
+// values reported by RandomValueConsumptionSimulation gives the time spent on random values
+public class PseudoRandomGeneratorPerformanceTest {
+
+  @State(Scope.Thread)
+  public static class TestState {
+
+    private static final int NUM_KEYS = 1 << 12;
+    private static final RandomGeneratorFactory<?> RANDOM_FACTORY =
+        RandomGeneratorFactory.of("L32X64MixRandom");
+
+    @Param({
+      "BinomialHash",
+      "ICWS",
+      "JumpBackHash",
+      "JumpBackHash32",
+      "JumpBackHash64",
+      "JumpHash",
+      "PowerConsistentHash",
+      "RandomMapper"
+    })
+    String mapperName;
+
+    @Param({
+      "SplitMix64V1",
+      "WyRand",
+      "Xoroshiro128PlusPlus",
+      "RomuDuoJr",
+      "PCG64",
+      "PCG32",
+      "Xoshiro128StarStar",
+      "SplittableRandom",
+      "L64X128MixRandom"
+    })
+    String generatorName;
+
+    @Param({"10", "1000", "1000000"})
+    int numBuckets;
+
+    private final long[] keys = new long[NUM_KEYS];
+    private int keyIndex;
+    private BucketMapper mapper;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+      RandomGenerator randomGenerator = RANDOM_FACTORY.create();
+      for (int i = 0; i < NUM_KEYS; ++i) {
+        keys[i] = randomGenerator.nextLong();
+      }
+      keyIndex = 0;
+      mapper = createMapper(mapperName).apply(createGenerator(generatorName));
+    }
+
+    long getKey() {
+      return keys[(NUM_KEYS - 1) & keyIndex++];
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class GeneratorState {
+
+    @Param({
+      "SplitMix64V1",
+      "WyRand",
+      "Xoroshiro128PlusPlus",
+      "RomuDuoJr",
+      "PCG64",
+      "PCG32",
+      "Xoshiro128StarStar",
+      "SplittableRandom",
+      "L64X128MixRandom"
+    })
+    String generatorName;
+
+    private PseudoRandomGenerator generator;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+      generator = createGenerator(generatorName);
+      generator.resetWithSeed(0x3b8f6e2d91c4a570L);
+    }
+  }
+
+  private static Function<PseudoRandomGenerator, BucketMapper> createMapper(String mapperName) {
+    return switch (mapperName) {
+      case "BinomialHash" -> BinomialHash::new;
+      case "ICWS" -> ICWS::new;
+      case "JumpBackHash" -> JumpBackHash::new;
+      case "JumpBackHash32" -> JumpBackHash32::new;
+      case "JumpBackHash64" -> JumpBackHash64::new;
+      case "JumpHash" -> JumpHash::new;
+      case "PowerConsistentHash" -> PowerConsistentHash::new;
+      case "RandomMapper" -> RandomMapper::new;
+      default -> throw new IllegalArgumentException("unknown bucket mapper " + mapperName);
+    };
+  }
+
+  private static PseudoRandomGenerator createGenerator(String generatorName) {
+    return switch (generatorName) {
+      case "SplitMix64V1" -> new SplitMix64V1();
+      case "WyRand" -> new WyRand();
+      case "Xoroshiro128PlusPlus" -> new Xoroshiro128PlusPlus();
+      case "RomuDuoJr" -> new RomuDuoJr();
+      case "PCG64" -> new PCG64();
+      case "PCG32" -> new PCG32();
+      case "Xoshiro128StarStar" -> new Xoshiro128StarStar();
+      case "SplittableRandom" -> new RandomGeneratorAdapter(SplittableRandom::new);
+      default -> RandomGeneratorAdapter.of(generatorName);
+    };
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int getBucket(TestState testState) {
+    return testState.mapper.getBucket(testState.getKey(), testState.numBuckets);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int nextInt(GeneratorState generatorState) {
+    return generatorState.generator.nextInt();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public long nextLong(GeneratorState generatorState) {
+    return generatorState.generator.nextLong();
+  }
+}
@@ -0,0 +1,120 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.*;
+
+public class RebalancePlannerPerformanceTest {
+
+  @State(Scope.Benchmark)
+  public static class TestState {
+
+    private static final int NUM_KEYS = 1 << 25; // 256 MB key file
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final RandomGeneratorFactory<?> RANDOM_FACTORY =
+        RandomGeneratorFactory.of("L32X64MixRandom");
+
+    @Param({"1000"})
+    int oldNumBuckets;
+
+    @Param({"1001", "1100", "2000"})
+    int newNumBuckets;
+
+    private Path directory;
+    private Path keyFile;
+    private Path outputDirectory;
+    private long keyFileSize;
+    private RebalancePlanner planner;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+      directory = Files.createTempDirectory("rebalance-planner");
+      keyFile = directory.resolve("keys.bin");
+      outputDirectory = Files.createDirectory(directory.resolve("output"));
+      RandomGenerator randomGenerator = RANDOM_FACTORY.create();
+      ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      try (FileChannel channel =
+          FileChannel.open(keyFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+        for (int i = 0; i < NUM_KEYS; ++i) {
+          buffer.putLong(randomGenerator.nextLong());
+          if (!buffer.hasRemaining()) {
+            buffer.flip();
+            while (buffer.hasRemaining()) channel.write(buffer);
+            buffer.clear();
+          }
+        }
+      }
+      keyFileSize = Files.size(keyFile);
+      planner =
+          new RebalancePlanner(
+              () -> new JumpBackHash(new SplitMix64V1()), ForkJoinPool.commonPool());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+      try (Stream<Path> paths = Files.walk(directory)) {
+        for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) Files.delete(path);
+      }
+    }
+  }
+
+  // the amount of processed key data, reported per second
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  @State(Scope.Thread)
+  public static class Counters {
+    public double gigabytes;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @Warmup(iterations = 3, time = 2)
+  @Measurement(iterations = 5, time = 2)
+  public long plan(TestState testState, Counters counters) throws IOException {
+    long numMovedKeys =
+        testState.planner.plan(
+            testState.keyFile,
+            testState.oldNumBuckets,
+            testState.newNumBuckets,
+            testState.outputDirectory);
+    counters.gigabytes += testState.keyFileSize * 1e-9;
+    return numMovedKeys;
+  }
+}
@@ -0,0 +1,102 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import java.util.Arrays;
+import org.openjdk.jmh.annotations.*;
+
+public class RendezvousHashPerformanceTest {
+
+  public static class TestState extends BaseState {
+
+    private RendezvousHash mapper;
+    private double[] weights;
+
+    @Override
+    void initializeMapper() {
+      mapper = new RendezvousHash();
+      weights = new double[numBuckets];
+      Arrays.fill(weights, 1.);
+    }
+
+    @Override
+    int hash(long key, int numBuckets) {
+      return mapper.getBucket(key, numBuckets);
+    }
+  }
+
+  public static class JumpBackHashState extends BaseState {
+
+    private JumpBackHash mapper;
+
+    @Override
+    void initializeMapper() {
+      mapper = new JumpBackHash(new SplitMix64V1());
+    }
+
+    @Override
+    int hash(long key, int numBuckets) {
+      return mapper.getBucket(key, numBuckets);
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int getBucket(TestState testState) {
+    return testState.hash();
+  }
+
+  // scalar score loop for comparison with the vectorized one
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int getBucketScalar(TestState testState) {
+    long hash = testState.getKey();
+    int bucket = 0;
+    long maxScore = -1;
+    for (int b = 0; b < testState.numBuckets; ++b) {
+      long score = RendezvousHash.score(hash, b);
+      if (score > maxScore) {
+        maxScore = score;
+        bucket = b;
+      }
+    }
+    return bucket;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int getBucketWeighted(TestState testState) {
+    return testState.mapper.getBucket(testState.getKey(), testState.weights);
+  }
+
+  // JumpBackHash with the same numbers of buckets to find the crossover
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int getBucketJumpBackHash(JumpBackHashState testState) {
+    return testState.hash();
+  }
+}
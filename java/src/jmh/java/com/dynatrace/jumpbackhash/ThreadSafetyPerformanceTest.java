@@ -0,0 +1,73 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import org.openjdk.jmh.annotations.*;
+
+// compares a single stateless instance shared by all threads with thread-local instances
+@Threads(Threads.MAX)
+public class ThreadSafetyPerformanceTest {
+
+  public static class StatelessState extends BaseState {
+
+    private static final JumpBackHashSplitMix64 MAPPER = new JumpBackHashSplitMix64();
+
+    @Override
+    void initializeMapper() {}
+
+    @Override
+    int hash(long key, int numBuckets) {
+      return MAPPER.getBucket(key, numBuckets);
+    }
+  }
+
+  public static class ThreadLocalState extends BaseState {
+
+    private static final ThreadLocal<JumpBackHash> MAPPER =
+        ThreadLocal.withInitial(() -> new JumpBackHash(new SplitMix64V1()));
+
+    @Override
+    void initializeMapper() {}
+
+    @Override
+    int hash(long key, int numBuckets) {
+      return MAPPER.get().getBucket(key, numBuckets);
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int getBucketStateless(StatelessState state) {
+    return state.hash();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int getBucketThreadLocal(ThreadLocalState state) {
+    return state.hash();
+  }
+}
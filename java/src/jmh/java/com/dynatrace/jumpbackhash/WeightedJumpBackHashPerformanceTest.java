@@ -0,0 +1,86 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.openjdk.jmh.annotations.*;
+
+public class WeightedJumpBackHashPerformanceTest {
+
+  private static final int MAX_WEIGHT = 1 << 16;
+
+  public static class MaxWeightsState extends BaseState {
+
+    private WeightedJumpBackHash mapper;
+    private int[] weights;
+
+    @Override
+    void initializeMapper() {
+      mapper = new WeightedJumpBackHash(new SplitMix64V1());
+      weights = new int[numBuckets];
+      Arrays.fill(weights, MAX_WEIGHT);
+    }
+
+    @Override
+    int hash(long key, int numBuckets) {
+      return mapper.getBucket(key, numBuckets, weights, MAX_WEIGHT);
+    }
+  }
+
+  public static class RandomWeightsState extends BaseState {
+
+    private WeightedJumpBackHash mapper;
+    private int[] weights;
+
+    @Override
+    void initializeMapper() {
+      mapper = new WeightedJumpBackHash(new SplitMix64V1());
+      // weights uniformly distributed over [1, MAX_WEIGHT], about 2 attempts on average
+      weights =
+          new SplittableRandom(0x5b1e3d7a9c2f4e81L).ints(numBuckets, 1, MAX_WEIGHT + 1).toArray();
+      weights[numBuckets - 1] = MAX_WEIGHT; // the last bucket must have maximum weight
+    }
+
+    @Override
+    int hash(long key, int numBuckets) {
+      return mapper.getBucket(key, numBuckets, weights, MAX_WEIGHT);
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int getBucketMaxWeights(MaxWeightsState testState) {
+    return testState.hash();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int getBucketRandomWeights(RandomWeightsState testState) {
+    return testState.hash();
+  }
+}
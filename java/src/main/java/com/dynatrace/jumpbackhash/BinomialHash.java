@@ -0,0 +1,73 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static com.dynatrace.jumpbackhash.PowerConsistentHash.relocateWithinLevel;
+import static java.lang.Integer.numberOfLeadingZeros;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * BinomialHash as described in Coluzzi et al., "BinomialHash: A Constant Time, Minimal Memory
+ * Consistent Hash Algorithm", 2024.
+ *
+ * <p>With {@code m} being the smallest power of two not smaller than {@code n}, a key is mapped
+ * consistently to one of {@code m} buckets. If the result is not smaller than {@code n}, this is
+ * repeated with further random values, until either one of the upper buckets from {@code m/2} to
+ * {@code n - 1} is hit, or the key falls back consistently to one of the lower {@code m/2} buckets.
+ * As the number of retries is bounded, the mapping is monotone, but not exactly uniform. The lower
+ * buckets receive a slightly larger share of keys, as the fallback is taken for all keys that
+ * exhaust their retries.
+ */
+public class BinomialHash implements BucketMapper {
+
+  static final int MAX_NUM_RETRIES = 4;
+
+  private final PseudoRandomGenerator randomGenerator;
+
+  public BinomialHash(PseudoRandomGenerator pseudoRandomGenerator) {
+    this.randomGenerator = requireNonNull(pseudoRandomGenerator);
+  }
+
+  @Override
+  public int getBucket(long k, int n) {
+    if (n <= 1) return 0;
+    randomGenerator.resetWithSeed(k);
+    long h = randomGenerator.nextLong();
+    int mask = ~0 >>> numberOfLeadingZeros(n - 1); // m - 1
+    int b = relocateWithinLevel(h, mask);
+    if (b < n) return b;
+    int lowerMask = mask >>> 1; // m/2 - 1
+    for (int i = 0; i < MAX_NUM_RETRIES; ++i) {
+      b = relocateWithinLevel(randomGenerator.nextLong(), mask);
+      if (b < n) {
+        if (b > lowerMask) return b;
+        break;
+      }
+    }
+    return relocateWithinLevel(h, lowerMask);
+  }
+}
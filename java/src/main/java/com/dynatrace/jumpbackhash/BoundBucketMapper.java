@@ -0,0 +1,60 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import java.util.function.LongToIntFunction;
+
+/**
+ * A bucket mapper bound to a fixed number of buckets as returned by {@link
+ * BucketMapper#forBuckets(int)}.
+ *
+ * <p>Quantities that only depend on the number of buckets are computed once when binding, which
+ * pays off if the number of buckets changes rarely compared to the number of mapped hash values.
+ */
+@FunctionalInterface
+public interface BoundBucketMapper extends LongToIntFunction {
+
+  /**
+   * Returns the same bucket index as {@link BucketMapper#getBucket(long, int)} with the bound
+   * number of buckets.
+   *
+   * @param hash a 64-bit hash value
+   * @return the bucket index
+   */
+  int getBucket(long hash);
+
+  /**
+   * Same as {@link #getBucket(long)}.
+   *
+   * @param hash a 64-bit hash value
+   * @return the bucket index
+   */
+  @Override
+  default int applyAsInt(long hash) {
+    return getBucket(hash);
+  }
+}
@@ -26,6 +26,8 @@
 //
 package com.dynatrace.jumpbackhash;
 
+import static java.util.Objects.checkFromToIndex;
+
 /** A hash function that maps a given hash consistently to a bucket index of given range. */
 public interface BucketMapper {
 
@@ -44,4 +46,102 @@ public interface BucketMapper {
    * @return the bucket index
    */
   int getBucket(long hash, int numBuckets);
+
+  /**
+   * Maps all given hash values to bucket indices in the range {@code [0, numBuckets)}.
+   *
+   * <p>The result is the same as calling {@link #getBucket(long, int)} for each hash value.
+   *
+   * @param hashes the 64-bit hash values
+   * @param numBuckets the number of buckets, must be positive
+   * @param buckets the array to which the bucket indices are written, must not be shorter than
+   *     {@code hashes}
+   */
+  default void getBuckets(long[] hashes, int numBuckets, int[] buckets) {
+    getBuckets(hashes, 0, hashes.length, numBuckets, buckets);
+  }
+
+  /**
+   * Maps the hash values {@code hashes[fromIndex]}, ..., {@code hashes[toIndex - 1]} to bucket
+   * indices in the range {@code [0, numBuckets)} and writes them to {@code buckets[fromIndex]},
+   * ..., {@code buckets[toIndex - 1]}.
+   *
+   * <p>The result is the same as calling {@link #getBucket(long, int)} for each hash value.
+   * Implementations may override this method to hoist computations that only depend on {@code
+   * numBuckets} out of the loop.
+   *
+   * @param hashes the 64-bit hash values
+   * @param fromIndex the index of the first hash value, inclusive
+   * @param toIndex the index of the last hash value, exclusive
+   * @param numBuckets the number of buckets, must be positive
+   * @param buckets the array to which the bucket indices are written
+   * @throws IndexOutOfBoundsException if the range is out of bounds for {@code hashes} or {@code
+   *     buckets}
+   */
+  default void getBuckets(
+      long[] hashes, int fromIndex, int toIndex, int numBuckets, int[] buckets) {
+    checkFromToIndex(fromIndex, toIndex, hashes.length);
+    checkFromToIndex(fromIndex, toIndex, buckets.length);
+    for (int i = fromIndex; i < toIndex; ++i) {
+      buckets[i] = getBucket(hashes[i], numBuckets);
+    }
+  }
+
+  /**
+   * Returns a bucket mapper bound to the given number of buckets.
+   *
+   * <p>The bound bucket mapper returns the same bucket indices as {@link #getBucket(long, int)}.
+   * Implementations may override this method to precompute quantities that only depend on {@code
+   * numBuckets}. The bound bucket mapper may share state with this bucket mapper, such as its
+   * pseudo-random generator, and is therefore only thread-safe if this bucket mapper is.
+   *
+   * @param numBuckets the number of buckets, must be positive
+   * @return the bound bucket mapper
+   * @throws IllegalArgumentException if the number of buckets is not positive
+   */
+  default BoundBucketMapper forBuckets(int numBuckets) {
+    if (numBuckets < 1) throw new IllegalArgumentException("number of buckets must be positive");
+    return hash -> getBucket(hash, numBuckets);
+  }
+
+  /**
+   * Fills the given array with distinct bucket indices in the range {@code [0, numBuckets)} based
+   * on the given hash value, for example to place replicas of a key.
+   *
+   * <p>The first bucket index is the same as returned by {@link #getBucket(long, int)}. The further
+   * bucket indices are obtained by mapping a sequence of hash values derived from the given hash
+   * value, skipping bucket indices that have already been chosen. If the bucket mapper is monotone
+   * and {@code numBuckets} is incremented, the returned bucket indices only change if the new
+   * bucket is among them. Hence, the expected fraction of changed bucket index sets is minimal.
+   *
+   * <p>This method does not allocate any memory. The expected number of calls of {@link
+   * #getBucket(long, int)} is small if the number of requested bucket indices is small compared to
+   * {@code numBuckets}.
+   *
+   * @param hash a 64-bit hash value
+   * @param numBuckets the number of buckets, must be positive
+   * @param buckets the array to which the distinct bucket indices are written, its length defines
+   *     the number of requested bucket indices
+   * @throws IllegalArgumentException if more bucket indices are requested than there are buckets
+   */
+  default void getDistinctBuckets(long hash, int numBuckets, int[] buckets) {
+    int numDistinctBuckets = buckets.length;
+    if (numDistinctBuckets > numBuckets) {
+      throw new IllegalArgumentException("number of requested buckets exceeds number of buckets");
+    }
+    if (numDistinctBuckets == 0) return;
+    buckets[0] = getBucket(hash, numBuckets);
+    int count = 1;
+    for (long i = 1; count < numDistinctBuckets; ++i) {
+      int bucket = getBucket(rehash(hash, i), numBuckets);
+      int j = 0;
+      while (j < count && buckets[j] != bucket) ++j;
+      if (j == count) buckets[count++] = bucket;
+    }
+  }
+
+  // derives the i-th hash value from the given hash value using the finalizer of SplitMix64
+  private static long rehash(long hash, long i) {
+    return SplitMix64V1.mix(hash + i * 0xbb67ae8584caa73bL);
+  }
 }
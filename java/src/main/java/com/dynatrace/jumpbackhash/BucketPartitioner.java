@@ -0,0 +1,286 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Groups keys by their bucket indices into contiguous runs, for example to scatter records into
+ * per-bucket buffers.
+ *
+ * <p>The keys, and optionally an associated payload, are reordered by a stable counting sort on the
+ * bucket indices. The start of the run of bucket {@code b} is given by {@code offsets[b]} and its
+ * end by {@code offsets[b + 1]}, where {@code offsets} is the returned array of length {@code
+ * numBuckets + 1}.
+ *
+ * <p>The bucket indices are computed in bulk and counted in a histogram. Its prefix sums give the
+ * destination index of each element, so that the keys and the payload are each scattered in a
+ * single sequential pass over the input. If constructed with a {@link ForkJoinPool}, large inputs
+ * are partitioned in parallel, where each chunk of the input counts its own histogram and hence
+ * scatters into a disjoint set of destination indices. The number of chunks is limited such that
+ * all histograms together are not larger than the input, otherwise the bucket indices are counted
+ * sequentially.
+ */
+public class BucketPartitioner {
+
+  private static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 18;
+
+  private final ForkJoinPool pool; // null for sequential processing
+  private final int parallelThreshold;
+  private final ThreadLocal<BucketMapper> bucketMappers;
+
+  /**
+   * Constructor for sequential processing.
+   *
+   * @param bucketMapperSupplier supplies the bucket mapper
+   */
+  public BucketPartitioner(Supplier<? extends BucketMapper> bucketMapperSupplier) {
+    this(bucketMapperSupplier, null, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Constructor for parallel processing of large inputs.
+   *
+   * @param bucketMapperSupplier supplies bucket mappers, one is used per thread, as bucket mappers
+   *     are not necessarily thread-safe
+   * @param pool the pool used for parallel processing
+   */
+  public BucketPartitioner(
+      Supplier<? extends BucketMapper> bucketMapperSupplier, ForkJoinPool pool) {
+    this(bucketMapperSupplier, requireNonNull(pool), DEFAULT_PARALLEL_THRESHOLD);
+  }
+
+  BucketPartitioner(
+      Supplier<? extends BucketMapper> bucketMapperSupplier,
+      ForkJoinPool pool,
+      int parallelThreshold) {
+    this.pool = pool;
+    this.parallelThreshold = parallelThreshold;
+    this.bucketMappers = ThreadLocal.withInitial(requireNonNull(bucketMapperSupplier));
+  }
+
+  /**
+   * Groups the given keys by their bucket indices.
+   *
+   * @param keys the 64-bit key hashes
+   * @param numBuckets the number of buckets, must be positive
+   * @param partitionedKeys the array to which the grouped keys are written, must have the same
+   *     length as {@code keys}
+   * @return the offsets of the bucket runs, an array of length {@code numBuckets + 1}
+   */
+  public int[] partition(long[] keys, int numBuckets, long[] partitionedKeys) {
+    checkLength(keys, partitionedKeys.length);
+    Permutation permutation = computePermutation(keys, numBuckets);
+    permutation.apply(keys, partitionedKeys);
+    return permutation.offsets;
+  }
+
+  /**
+   * Groups the given keys together with an {@code int} payload by their bucket indices.
+   *
+   * @param keys the 64-bit key hashes
+   * @param payload the payload, must have the same length as {@code keys}
+   * @param numBuckets the number of buckets, must be positive
+   * @param partitionedKeys the array to which the grouped keys are written, must have the same
+   *     length as {@code keys}
+   * @param partitionedPayload the array to which the payload is written in the same order as the
+   *     keys, must have the same length as {@code keys}
+   * @return the offsets of the bucket runs, an array of length {@code numBuckets + 1}
+   */
+  public int[] partition(
+      long[] keys,
+      int[] payload,
+      int numBuckets,
+      long[] partitionedKeys,
+      int[] partitionedPayload) {
+    checkLength(keys, partitionedKeys.length, payload.length, partitionedPayload.length);
+    Permutation permutation = computePermutation(keys, numBuckets);
+    permutation.apply(keys, partitionedKeys);
+    permutation.apply(payload, partitionedPayload);
+    return permutation.offsets;
+  }
+
+  /**
+   * Groups the given keys together with a {@code long} payload by their bucket indices.
+   *
+   * @param keys the 64-bit key hashes
+   * @param payload the payload, must have the same length as {@code keys}
+   * @param numBuckets the number of buckets, must be positive
+   * @param partitionedKeys the array to which the grouped keys are written, must have the same
+   *     length as {@code keys}
+   * @param partitionedPayload the array to which the payload is written in the same order as the
+   *     keys, must have the same length as {@code keys}
+   * @return the offsets of the bucket runs, an array of length {@code numBuckets + 1}
+   */
+  public int[] partition(
+      long[] keys,
+      long[] payload,
+      int numBuckets,
+      long[] partitionedKeys,
+      long[] partitionedPayload) {
+    checkLength(keys, partitionedKeys.length, payload.length, partitionedPayload.length);
+    Permutation permutation = computePermutation(keys, numBuckets);
+    permutation.apply(keys, partitionedKeys);
+    permutation.apply(payload, partitionedPayload);
+    return permutation.offsets;
+  }
+
+  private static void checkLength(long[] keys, int... lengths) {
+    for (int length : lengths) {
+      if (length != keys.length) throw new IllegalArgumentException("array lengths differ");
+    }
+  }
+
+  private boolean isParallel(int length) {
+    return pool != null && length >= parallelThreshold;
+  }
+
+  private interface ChunkAction {
+    void apply(int chunk, int from, int to);
+  }
+
+  private int getNumChunks() {
+    return 4 * pool.getParallelism();
+  }
+
+  // limits the number of histograms of numBuckets counters to the length of the input
+  private int getNumChunks(int length, int numBuckets) {
+    return isParallel(length) ? Math.min(getNumChunks(), length / numBuckets) : 1;
+  }
+
+  // splits the index range into the given number of chunks and processes them in parallel
+  private void forEachChunk(int length, int numChunks, ChunkAction action) {
+    int chunkSize = (length + numChunks - 1) / numChunks;
+    pool.invoke(
+        ForkJoinTask.adapt(
+            () ->
+                ForkJoinTask.invokeAll(
+                    IntStream.range(0, numChunks)
+                        .mapToObj(
+                            c ->
+                                ForkJoinTask.adapt(
+                                    () -> {
+                                      int from = Math.min(length, c * chunkSize);
+                                      action.apply(c, from, Math.min(length, from + chunkSize));
+                                    }))
+                        .toList())));
+  }
+
+  // processes the index range in parallel chunks, if the input is large enough
+  private void forEachChunk(int length, ChunkAction action) {
+    if (isParallel(length)) {
+      forEachChunk(length, getNumChunks(), action);
+    } else {
+      action.apply(0, 0, length);
+    }
+  }
+
+  private Permutation computePermutation(long[] keys, int numBuckets) {
+    if (numBuckets < 1) throw new IllegalArgumentException("number of buckets must be positive");
+    int length = keys.length;
+    int[] offsets = new int[numBuckets + 1];
+    int[] positions = new int[length];
+    int numChunks = getNumChunks(length, numBuckets);
+    if (numChunks > 1) {
+      // per-chunk histograms
+      int[][] cursors = new int[numChunks][];
+      forEachChunk(
+          length,
+          numChunks,
+          (c, from, to) -> {
+            bucketMappers.get().getBuckets(keys, from, to, numBuckets, positions);
+            int[] counts = new int[numBuckets];
+            for (int i = from; i < to; ++i) counts[positions[i]] += 1;
+            cursors[c] = counts;
+          });
+      // for disjoint ranges of buckets, replaces the counts of each chunk by those of all previous
+      // chunks and sums up the total counts in offsets, reading each histogram sequentially
+      forEachChunk(
+          numBuckets,
+          numChunks,
+          (r, from, to) -> {
+            for (int[] cursor : cursors) {
+              for (int b = from; b < to; ++b) {
+                int count = cursor[b];
+                cursor[b] = offsets[b + 1];
+                offsets[b + 1] += count;
+              }
+            }
+          });
+      for (int b = 0; b < numBuckets; ++b) offsets[b + 1] += offsets[b];
+      // each chunk continues where the previous chunk ended for each bucket
+      forEachChunk(
+          length,
+          numChunks,
+          (c, from, to) -> {
+            int[] cursor = cursors[c];
+            for (int b = 0; b < numBuckets; ++b) cursor[b] += offsets[b];
+            for (int i = from; i < to; ++i) positions[i] = cursor[positions[i]]++;
+          });
+    } else {
+      bucketMappers.get().getBuckets(keys, numBuckets, positions);
+      for (int b : positions) offsets[b + 1] += 1;
+      for (int b = 0; b < numBuckets; ++b) offsets[b + 1] += offsets[b];
+      int[] cursor = Arrays.copyOf(offsets, numBuckets);
+      for (int i = 0; i < length; ++i) positions[i] = cursor[positions[i]]++;
+    }
+    return new Permutation(offsets, positions);
+  }
+
+  private final class Permutation {
+
+    private final int[] offsets;
+    private final int[] positions; // maps the source index to the destination index
+
+    private Permutation(int[] offsets, int[] positions) {
+      this.offsets = offsets;
+      this.positions = positions;
+    }
+
+    private void apply(long[] source, long[] destination) {
+      forEachChunk(
+          source.length,
+          (c, from, to) -> {
+            for (int i = from; i < to; ++i) destination[positions[i]] = source[i];
+          });
+    }
+
+    private void apply(int[] source, int[] destination) {
+      forEachChunk(
+          source.length,
+          (c, from, to) -> {
+            for (int i = from; i < to; ++i) destination[positions[i]] = source[i];
+          });
+    }
+  }
+}
@@ -0,0 +1,208 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static java.util.Objects.checkFromToIndex;
+
+import java.util.Arrays;
+
+/**
+ * A consistent hash ring with virtual nodes as described in Karger et al., "Consistent Hashing and
+ * Random Trees: Distributed Caching Protocols for Relieving Hot Spots on the World Wide Web", STOC
+ * 1997.
+ *
+ * <p>Each bucket places a configurable number of virtual nodes at pseudo-random 32-bit positions on
+ * the ring, and a key is mapped to the owner of the first virtual node at or after the position
+ * given by the upper 32 bits of its hash. The mapping is monotone, but the loads of the buckets
+ * vary with a relative standard deviation of roughly {@code 1/sqrt(v)}, where {@code v} is the
+ * number of virtual nodes per bucket.
+ *
+ * <p>Instead of a {@link java.util.TreeMap}, the ring is stored as a single primitive array with 8
+ * bytes per virtual node, each entry combining the position with the owning bucket. The entries are
+ * arranged in Eytzinger layout (level by level as in a binary heap), which makes the search
+ * cache-friendly and branch-free. The ring is rebuilt when the number of buckets differs from the
+ * previous call, by merging in the virtual nodes of added buckets or by dropping those of removed
+ * buckets. The last two rings are kept, so that alternating between an old and a new number of
+ * buckets does not rebuild the ring for every key.
+ *
+ * <p>Instances are not thread-safe.
+ */
+public class ConsistentHashRing implements BucketMapper {
+
+  private static final long SEED = 0x4b1e9d3a7c5f2068L;
+
+  private final int numVirtualNodes;
+
+  // entries in Eytzinger layout starting at index 1, index 0 holds the smallest entry
+  private long[] ring = null;
+  private int ringNumBuckets = -1;
+  private long[] previousRing = null;
+  private int previousRingNumBuckets = -1;
+
+  /**
+   * Constructor.
+   *
+   * @param numVirtualNodes the number of virtual nodes per bucket, must be positive
+   */
+  public ConsistentHashRing(int numVirtualNodes) {
+    if (numVirtualNodes < 1) {
+      throw new IllegalArgumentException("number of virtual nodes must be positive");
+    }
+    this.numVirtualNodes = numVirtualNodes;
+  }
+
+  @Override
+  public int getBucket(long hash, int numBuckets) {
+    return lookup(getRing(numBuckets), hash);
+  }
+
+  @Override
+  public void getBuckets(long[] hashes, int fromIndex, int toIndex, int numBuckets, int[] buckets) {
+    checkFromToIndex(fromIndex, toIndex, hashes.length);
+    checkFromToIndex(fromIndex, toIndex, buckets.length);
+    long[] r = getRing(numBuckets);
+    for (int i = fromIndex; i < toIndex; ++i) {
+      buckets[i] = lookup(r, hashes[i]);
+    }
+  }
+
+  // rings are never modified once built, hence the bound bucket mapper is thread-safe
+  @Override
+  public BoundBucketMapper forBuckets(int numBuckets) {
+    long[] r = getRing(numBuckets);
+    return hash -> lookup(r, hash);
+  }
+
+  /**
+   * Returns the number of virtual nodes per bucket.
+   *
+   * @return the number of virtual nodes per bucket
+   */
+  public int getNumVirtualNodes() {
+    return numVirtualNodes;
+  }
+
+  // returns the number of bytes allocated for rings
+  long getMemoryFootprint() {
+    long numLongs = 0;
+    if (ring != null) numLongs += ring.length;
+    if (previousRing != null) numLongs += previousRing.length;
+    return numLongs * Long.BYTES;
+  }
+
+  private static int lookup(long[] r, long hash) {
+    // flipping the sign bit makes signed comparisons match the unsigned order of positions
+    long query = (hash & 0xFFFFFFFF00000000L) ^ Long.MIN_VALUE;
+    int k = 1;
+    while (k < r.length) {
+      k = 2 * k + ((r[k] < query) ? 1 : 0);
+    }
+    // strip the trailing right turns and the final left turn, gives 0 if all entries are smaller
+    k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+    return (int) r[k];
+  }
+
+  private long[] getRing(int numBuckets) {
+    if (numBuckets == ringNumBuckets) return ring;
+    if (numBuckets < 1 || (long) numBuckets * numVirtualNodes >= Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException("number of buckets must be positive and not too large");
+    }
+    long[] r = previousRing;
+    int n = previousRingNumBuckets;
+    previousRing = ring;
+    previousRingNumBuckets = ringNumBuckets;
+    if (n != numBuckets) {
+      r = build(numBuckets);
+      n = numBuckets;
+    }
+    ring = r;
+    ringNumBuckets = n;
+    return r;
+  }
+
+  private long[] build(int numBuckets) {
+    long[] current = previousRing; // the most recent ring
+    int currentNumBuckets = previousRingNumBuckets;
+    long[] sorted = new long[numBuckets * numVirtualNodes];
+    if (current == null) {
+      createEntries(0, numBuckets, sorted, 0);
+      Arrays.sort(sorted);
+    } else if (numBuckets < currentNumBuckets) {
+      toSorted(current, 1, sorted, 0, numBuckets);
+    } else {
+      long[] currentEntries = new long[currentNumBuckets * numVirtualNodes];
+      toSorted(current, 1, currentEntries, 0, currentNumBuckets);
+      long[] addedEntries = new long[sorted.length - currentEntries.length];
+      createEntries(currentNumBuckets, numBuckets, addedEntries, 0);
+      Arrays.sort(addedEntries);
+      merge(currentEntries, addedEntries, sorted);
+    }
+    long[] r = new long[sorted.length + 1];
+    toEytzinger(sorted, 0, r, 1);
+    r[0] = sorted[0];
+    return r;
+  }
+
+  private void createEntries(int fromBucket, int toBucket, long[] entries, int index) {
+    for (int b = fromBucket; b < toBucket; ++b) {
+      long state = SplitMix64V1.mix(SEED + b * SplitMix64V1.GOLDEN_GAMMA);
+      for (int i = 0; i < numVirtualNodes; ++i) {
+        state += SplitMix64V1.GOLDEN_GAMMA;
+        long position = SplitMix64V1.mix(state) & 0xFFFFFFFF00000000L;
+        entries[index++] = (position ^ Long.MIN_VALUE) | b;
+      }
+    }
+  }
+
+  // copies the entries of the subtree rooted at k in sorted order, skipping removed buckets
+  private static int toSorted(long[] r, int k, long[] sorted, int index, int numBuckets) {
+    if (k < r.length) {
+      index = toSorted(r, 2 * k, sorted, index, numBuckets);
+      if ((int) r[k] < numBuckets) sorted[index++] = r[k];
+      index = toSorted(r, 2 * k + 1, sorted, index, numBuckets);
+    }
+    return index;
+  }
+
+  // fills the subtree rooted at k with the sorted entries starting at the given index
+  private static int toEytzinger(long[] sorted, int index, long[] r, int k) {
+    if (k < r.length) {
+      index = toEytzinger(sorted, index, r, 2 * k);
+      r[k] = sorted[index++];
+      index = toEytzinger(sorted, index, r, 2 * k + 1);
+    }
+    return index;
+  }
+
+  private static void merge(long[] a, long[] b, long[] merged) {
+    int i = 0;
+    int j = 0;
+    for (int k = 0; k < merged.length; ++k) {
+      merged[k] = (j == b.length || (i < a.length && a[i] <= b[j])) ? a[i++] : b[j++];
+    }
+  }
+}
@@ -0,0 +1,73 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+// computes remainders by multiplication with a precomputed 128-bit reciprocal instead of division
+// see Lemire, Daniel, Owen Kaser, and Nathan Kurz. "Faster remainder by direct computation:
+// Applications to compilers and software libraries." Software: Practice and Experience 49.6 (2019):
+// 953-970.
+final class FastMod {
+
+  private final long divisor;
+
+  // the reciprocal M = floor((2^128 - 1) / divisor) + 1
+  private final long reciprocalHigh;
+  private final long reciprocalLow;
+
+  // the divisor must be positive, for a divisor of 1 the reciprocal wraps around to 0, which gives
+  // the correct remainder 0
+  FastMod(int divisor) {
+    if (divisor < 1) throw new IllegalArgumentException("divisor must be positive");
+    long d = divisor;
+    // long division of 2^128 - 1 by d in digits of 64, 32, and 32 bits, remainders are less than d
+    long high = Long.divideUnsigned(-1L, d);
+    long r = Long.remainderUnsigned(-1L, d);
+    long n1 = (r << 32) | 0xFFFFFFFFL;
+    long n0 = ((n1 % d) << 32) | 0xFFFFFFFFL;
+    long low = (((n1 / d) << 32) | (n0 / d)) + 1;
+    this.divisor = d;
+    this.reciprocalHigh = (low == 0) ? high + 1 : high; // carry occurs for powers of two and 1
+    this.reciprocalLow = low;
+  }
+
+  int getDivisor() {
+    return (int) divisor;
+  }
+
+  // returns x mod divisor for x interpreted as unsigned 64-bit value
+  long remainderUnsigned(long x) {
+    // lowest 128 bits of M * x
+    long low = reciprocalLow * x;
+    long high = Math.unsignedMultiplyHigh(reciprocalLow, x) + reciprocalHigh * x;
+    // bits 128 to 191 of (M * x mod 2^128) * divisor
+    long middle = high * divisor;
+    long bottom = Math.unsignedMultiplyHigh(low, divisor);
+    long sum = middle + bottom;
+    long carry = ((middle & bottom) | ((middle | bottom) & ~sum)) >>> 63; // branch-free
+    return Math.unsignedMultiplyHigh(high, divisor) + carry;
+  }
+}
@@ -0,0 +1,76 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static java.util.Objects.checkFromToIndex;
+
+/**
+ * A non-consistent bucket mapper that returns the remainder of the hash value, interpreted as
+ * unsigned 64-bit value, divided by the number of buckets.
+ *
+ * <p>The remainder is computed by multiplications with a precomputed reciprocal of the number of
+ * buckets instead of a division. See Lemire, Daniel, Owen Kaser, and Nathan Kurz. "Faster remainder
+ * by direct computation: Applications to compilers and software libraries." Software: Practice and
+ * Experience 49.6 (2019): 953-970.
+ *
+ * <p>The reciprocal of the most recently used number of buckets is cached. As the cached reciprocal
+ * is immutable, this class is thread-safe.
+ */
+public class FastModMapper implements BucketMapper {
+
+  private FastMod fastMod = new FastMod(1);
+
+  private FastMod getFastMod(int n) {
+    FastMod f = fastMod;
+    if (f.getDivisor() != n) {
+      f = new FastMod(n);
+      fastMod = f;
+    }
+    return f;
+  }
+
+  @Override
+  public int getBucket(long k, int n) {
+    return (int) getFastMod(n).remainderUnsigned(k);
+  }
+
+  @Override
+  public void getBuckets(long[] keys, int fromIndex, int toIndex, int n, int[] buckets) {
+    checkFromToIndex(fromIndex, toIndex, keys.length);
+    checkFromToIndex(fromIndex, toIndex, buckets.length);
+    FastMod f = getFastMod(n);
+    for (int i = fromIndex; i < toIndex; ++i) {
+      buckets[i] = (int) f.remainderUnsigned(keys[i]);
+    }
+  }
+
+  @Override
+  public BoundBucketMapper forBuckets(int n) {
+    FastMod f = new FastMod(n);
+    return k -> (int) f.remainderUnsigned(k);
+  }
+}
@@ -0,0 +1,56 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static java.util.Objects.checkFromToIndex;
+
+/**
+ * A non-consistent bucket mapper that maps a hash value to a bucket index by multiplying it with
+ * the number of buckets and taking the upper 64 bits of the 128-bit product.
+ *
+ * <p>This is a fast alternative to the modulo operation that uses the high instead of the low bits
+ * of the hash value. See Lemire, Daniel. "Fast random integer generation in an interval." ACM
+ * Transactions on Modeling and Computer Simulation (TOMACS) 29.1 (2019): 1-12.
+ */
+public class FastRangeMapper implements BucketMapper {
+
+  @Override
+  public int getBucket(long k, int n) {
+    if (n < 1) throw new IllegalArgumentException("number of buckets must be positive");
+    return (int) Math.unsignedMultiplyHigh(k, n);
+  }
+
+  @Override
+  public void getBuckets(long[] keys, int fromIndex, int toIndex, int n, int[] buckets) {
+    checkFromToIndex(fromIndex, toIndex, keys.length);
+    checkFromToIndex(fromIndex, toIndex, buckets.length);
+    if (n < 1) throw new IllegalArgumentException("number of buckets must be positive");
+    for (int i = fromIndex; i < toIndex; ++i) {
+      buckets[i] = (int) Math.unsignedMultiplyHigh(keys[i], n);
+    }
+  }
+}
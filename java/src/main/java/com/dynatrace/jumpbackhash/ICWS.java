@@ -40,9 +40,21 @@ public class ICWS implements BucketMapper {
   @Override
   public int getBucket(long x, int n) {
     if (n <= 1) return 0;
+    return getBucket(x, n, log(n));
+  }
+
+  @Override
+  public BoundBucketMapper forBuckets(int n) {
+    if (n < 1) throw new IllegalArgumentException("number of buckets must be positive");
+    if (n == 1) return x -> 0;
+    double logN = log(n); // only depends on n
+    return x -> getBucket(x, n, logN);
+  }
+
+  private int getBucket(long x, int n, double logN) {
     randomGenerator.resetWithSeed(x);
     double u = randomGenerator.nextDouble();
     double g = randomGenerator.nextExp() + randomGenerator.nextExp();
-    return Math.min((int) exp(g * (floor(log(n) / g + u) - u)), n - 1);
+    return Math.min((int) exp(g * (floor(logN / g + u) - u)), n - 1);
   }
 }
@@ -0,0 +1,132 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static java.lang.Long.numberOfLeadingZeros;
+import static java.lang.Math.unsignedMultiplyHigh;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * This is an implementation of ICWS that only uses integer arithmetic.
+ *
+ * <p>The natural logarithm and the exponential function of {@link ICWS} are replaced by a
+ * fixed-point approximation {@code f} of the binary logarithm and its exact inverse. {@code f} is
+ * linearly interpolated between 2^10 + 1 tabulated values per octave and has 48 fractional bits.
+ * The bucket index is the largest {@code b < n} with {@code f(b) <= z}, where {@code z} is the
+ * largest value of the form {@code g * t - u * g} with integer {@code t} that does not exceed
+ * {@code f(n)}. As this only requires {@code f} to be non-decreasing, the mapping is consistent and
+ * monotone exactly like {@link ICWS}, regardless of the approximation error.
+ *
+ * <p>The approximation error of {@code f} is less than 2^-22, and the slope of {@code f} deviates
+ * from that of the binary logarithm by a factor of at most 1 + 2^-10. Therefore, the probability of
+ * any bucket deviates from 1/n by less than 0.1% (relative). The tables are computed using {@link
+ * StrictMath}, which guarantees the same bucket indices on all platforms.
+ */
+public class ICWSFixedPoint implements BucketMapper {
+
+  private static final int FRACTIONAL_BITS = 48;
+  private static final int SEGMENT_BITS = 10;
+  private static final int NUM_SEGMENTS = 1 << SEGMENT_BITS;
+
+  // LOG2_TABLE[j] = 2^48 * log2(1 + j / 2^10), rounded
+  private static final long[] LOG2_TABLE = new long[NUM_SEGMENTS + 1];
+
+  // SEGMENT_TABLE[k] is the largest j < 2^10 with LOG2_TABLE[j] <= k * 2^38
+  private static final int[] SEGMENT_TABLE = new int[NUM_SEGMENTS];
+
+  static {
+    double scale = 0x1p48 / StrictMath.log(2);
+    for (int j = 0; j <= NUM_SEGMENTS; ++j) {
+      LOG2_TABLE[j] = Math.round(StrictMath.log1p(j * 0x1p-10) * scale);
+    }
+    int j = 0;
+    for (int k = 0; k < NUM_SEGMENTS; ++k) {
+      while (LOG2_TABLE[j + 1] <= (long) k << (FRACTIONAL_BITS - SEGMENT_BITS)) ++j;
+      SEGMENT_TABLE[k] = j;
+    }
+  }
+
+  private final PseudoRandomGenerator randomGenerator;
+
+  public ICWSFixedPoint(PseudoRandomGenerator pseudoRandomGenerator) {
+    this.randomGenerator = requireNonNull(pseudoRandomGenerator);
+  }
+
+  @Override
+  public int getBucket(long x, int n) {
+    if (n <= 1) return 0;
+    return getBucket(x, n, log2(n));
+  }
+
+  @Override
+  public BoundBucketMapper forBuckets(int n) {
+    if (n < 1) throw new IllegalArgumentException("number of buckets must be positive");
+    if (n == 1) return x -> 0;
+    long log2N = log2(n); // only depends on n
+    return x -> getBucket(x, n, log2N);
+  }
+
+  private int getBucket(long x, int n, long log2N) {
+    randomGenerator.resetWithSeed(x);
+    long u = randomGenerator.nextLong(); // uniform over [0, 1) with 64 fractional bits
+    // sum of two exponentially distributed values in units of the binary logarithm
+    long g = (128L << FRACTIONAL_BITS) - log2(randomGenerator.nextLong() | 1);
+    g -= log2(randomGenerator.nextLong() | 1);
+    long ug = unsignedMultiplyHigh(u, g);
+    long z = (log2N + ug) / g * g - ug; // largest z <= log2(n) of the form t * g - ug
+    if (z < 0) return 0;
+    return Math.min(pow2(z), n - 1);
+  }
+
+  // returns f(x) for an unsigned value x != 0, which is non-decreasing in x
+  static long log2(long x) {
+    int nlz = numberOfLeadingZeros(x);
+    long m = (x << nlz) << 1; // bits after the leading one
+    int j = (int) (m >>> -SEGMENT_BITS); // segment
+    long d = LOG2_TABLE[j + 1] - LOG2_TABLE[j];
+    return ((long) (63 - nlz) << FRACTIONAL_BITS)
+        + LOG2_TABLE[j]
+        + unsignedMultiplyHigh(d, m << SEGMENT_BITS);
+  }
+
+  // returns the largest x with log2(x) <= z for 0 <= z < 31 * 2^48
+  static int pow2(long z) {
+    int i = (int) (z >>> FRACTIONAL_BITS); // octave
+    long y = z & ((1L << FRACTIONAL_BITS) - 1);
+    int j = SEGMENT_TABLE[(int) (y >>> (FRACTIONAL_BITS - SEGMENT_BITS))];
+    while (LOG2_TABLE[j + 1] <= y) ++j; // terminates as LOG2_TABLE[2^10] = 2^48 > y
+    if (i < SEGMENT_BITS) {
+      // only the first point of every 2^(10 - i)-th segment is an integer
+      return (1 << i) + (j >>> (SEGMENT_BITS - i));
+    }
+    // the largest s with floor(d * s / 2^(i - 10)) <= e within the segment
+    long e = y - LOG2_TABLE[j];
+    long d = LOG2_TABLE[j + 1] - LOG2_TABLE[j];
+    long s = (((e + 1) << (i - SEGMENT_BITS)) - 1) / d;
+    return (int) ((1L << i) + ((long) j << (i - SEGMENT_BITS)) + s);
+  }
+}
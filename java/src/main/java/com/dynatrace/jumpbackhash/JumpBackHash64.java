@@ -0,0 +1,97 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static java.lang.Long.bitCount;
+import static java.lang.Long.numberOfLeadingZeros;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A variant of JumpBackHash that supports numbers of buckets up to {@code 2^63 - 1}.
+ *
+ * <p>JumpBackHash derives the levels to visit and the first candidates of all levels from a single
+ * 64-bit random value, which limits the number of levels to 32. Here, two 64-bit random values are
+ * drawn instead. Further candidates are taken in pairs from the 32-bit halves of a random value, as
+ * long as they fit, and otherwise from whole random values. Therefore, the costs are similar to
+ * those of JumpBackHash for numbers of buckets up to {@code 2^32}.
+ */
+public class JumpBackHash64 implements BucketMapper {
+
+  private final PseudoRandomGenerator randomGenerator;
+
+  public JumpBackHash64(PseudoRandomGenerator pseudoRandomGenerator) {
+    this.randomGenerator = requireNonNull(pseudoRandomGenerator);
+  }
+
+  @Override
+  public int getBucket(long k, int n) {
+    return (int) getBucket(k, (long) n);
+  }
+
+  /**
+   * Returns a bucket index in the range {@code [0, numBuckets)} based on the given hash value.
+   *
+   * <p>The returned bucket index is uniformly distributed. If {@code numBuckets} is changed,
+   * remapping to other bucket indices is minimized.
+   *
+   * @param k a 64-bit hash value
+   * @param n the number of buckets, must be positive
+   * @return the bucket index
+   */
+  public long getBucket(long k, long n) {
+    if (n <= 1) return 0;
+    randomGenerator.resetWithSeed(k);
+    long v0 = randomGenerator.nextLong();
+    long v1 = randomGenerator.nextLong();
+    long u = (v0 ^ v1) & (~0L >>> numberOfLeadingZeros(n - 1));
+    while (u != 0) {
+      long q = 1L << ~numberOfLeadingZeros(u); // q = 2^m
+      long b = q + (((bitCount(u) & 1) == 0 ? v0 : v1) & (q - 1));
+      long mask = (q << 1) - 1;
+      if (q <= 0x80000000L) {
+        // candidates fit into 32 bits
+        while (true) {
+          if (b < n) return b;
+          long w = randomGenerator.nextLong();
+          b = w & mask;
+          if (b < q) break;
+          if (b < n) return b;
+          b = (w >>> 32) & mask;
+          if (b < q) break;
+        }
+      } else {
+        while (true) {
+          if (b < n) return b;
+          b = randomGenerator.nextLong() & mask;
+          if (b < q) break;
+        }
+      }
+      u ^= q;
+    }
+    return 0;
+  }
+}
@@ -0,0 +1,110 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static java.lang.Integer.bitCount;
+import static java.lang.Integer.highestOneBit;
+import static java.lang.Integer.numberOfLeadingZeros;
+import static java.util.Objects.checkFromToIndex;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * This is an implementation of JumpBackHash that gives the same results as {@link JumpBackHash}
+ * but avoids most data-dependent branches.
+ *
+ * <p>The outer loop of JumpBackHash has been unrolled, as it is known that there are at most 2
+ * iterations, and the bucket index of the second iteration is computed in advance. The second
+ * random value is always drawn, and the result of the first iteration is selected using
+ * conditional moves and masks instead of branches. Only if the first random values do not yield a
+ * bucket index, the remaining loop is entered.
+ */
+public class JumpBackHashBranchFree implements BucketMapper {
+
+  private final PseudoRandomGenerator randomGenerator;
+
+  public JumpBackHashBranchFree(PseudoRandomGenerator pseudoRandomGenerator) {
+    this.randomGenerator = requireNonNull(pseudoRandomGenerator);
+  }
+
+  @Override
+  public int getBucket(long k, int n) {
+    if (n <= 1) return 0;
+    return getBucket(k, n, ~0 >>> numberOfLeadingZeros(n - 1));
+  }
+
+  @Override
+  public void getBuckets(long[] keys, int fromIndex, int toIndex, int n, int[] buckets) {
+    checkFromToIndex(fromIndex, toIndex, keys.length);
+    checkFromToIndex(fromIndex, toIndex, buckets.length);
+    if (n <= 1) {
+      Arrays.fill(buckets, fromIndex, toIndex, 0);
+      return;
+    }
+    int mask = ~0 >>> numberOfLeadingZeros(n - 1); // only depends on n
+    for (int i = fromIndex; i < toIndex; ++i) {
+      buckets[i] = getBucket(keys[i], n, mask);
+    }
+  }
+
+  // returns the bucket index of the outer iteration for the highest bit of u, or 0 if u == 0
+  private static int getCandidate(long v, int u) {
+    int q = highestOneBit(u); // q = 2^m or q = 0
+    int lowerBitsMask = (q - 1) & (-q >> 31); // q - 1 if q > 0, 0 otherwise
+    return q + ((int) (v >>> (bitCount(u) << 5)) & lowerBitsMask);
+  }
+
+  // returns a if x < y and b otherwise, the JIT compiler translates this into a conditional move if
+  // the outcome of the comparison is unpredictable, which was faster than selecting with masks
+  private static int select(int x, int y, int a, int b) {
+    return x < y ? a : b;
+  }
+
+  // mask + 1 is the smallest power of two not less than n
+  private int getBucket(long k, int n, int mask) {
+    randomGenerator.resetWithSeed(k);
+    long v = randomGenerator.nextLong();
+    int u = (int) (v ^ (v >>> 32)) & mask;
+    int q = highestOneBit(u);
+    int b = getCandidate(v, u); // 0 if u == 0
+    int b2 = getCandidate(v, u ^ q); // always less than n
+    int qMask = (q << 1) - 1;
+    long w = randomGenerator.nextLong(); // only needed if b >= n
+    int c = (int) w & qMask;
+    int r = select(b, n, b, select(c, q, b2, c));
+    while (r >= n) {
+      c = (int) (w >>> 32) & qMask;
+      r = select(c, q, b2, c);
+      if (r < n) break;
+      w = randomGenerator.nextLong();
+      c = (int) w & qMask;
+      r = select(c, q, b2, c);
+    }
+    return r;
+  }
+}
@@ -0,0 +1,177 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static java.lang.Integer.bitCount;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Enumerates the numbers of buckets at which the bucket index returned by {@link JumpBackHash}
+ * changes for a given key.
+ *
+ * <p>JumpBackHash is monotone, a key is only moved to the newly added bucket when the number of
+ * buckets is incremented. Therefore, the bucket history of a key is fully described by the numbers
+ * of buckets {@code n'} at which it is moved to bucket {@code n' - 1}.
+ *
+ * <p>For {@code 2^m < n <= 2^(m+1)} JumpBackHash returns the first candidate smaller than {@code n}
+ * among the candidates in {@code [2^m, 2^(m+1))} drawn at the highest level of the outer loop, and
+ * a candidate smaller than {@code 2^m} otherwise. These candidates do not depend on {@code n}.
+ * Hence, the key is moved to bucket {@code c} at {@code n' = c + 1} if and only if {@code c} is
+ * smaller than all candidates drawn before. As the number of candidates per level is geometrically
+ * distributed with expectation 2, the next change can be found in logarithmic time without
+ * evaluating JumpBackHash for all intermediate numbers of buckets.
+ */
+public class JumpBackHashChangePoints {
+
+  private final PseudoRandomGenerator randomGenerator;
+
+  /**
+   * Constructor.
+   *
+   * @param pseudoRandomGenerator the pseudo-random generator, must be of the same type as used for
+   *     {@link JumpBackHash}
+   */
+  public JumpBackHashChangePoints(PseudoRandomGenerator pseudoRandomGenerator) {
+    this.randomGenerator = requireNonNull(pseudoRandomGenerator);
+  }
+
+  /**
+   * Returns the smallest number of buckets {@code n' > n} for which the bucket index of the given
+   * key differs from the bucket index for {@code n} buckets. The bucket index for {@code n'}
+   * buckets is always {@code n' - 1}.
+   *
+   * @param k a 64-bit hash value
+   * @param n the number of buckets
+   * @return the next number of buckets at which the bucket index changes, or a negative value if
+   *     the bucket index does not change anymore up to {@link Integer#MAX_VALUE} buckets
+   */
+  public int nextChange(long k, int n) {
+    if (n < 1) n = 1;
+    randomGenerator.resetWithSeed(k);
+    long v = randomGenerator.nextLong();
+    int uAll = (int) (v ^ (v >>> 32));
+    // the bucket index can only change at n' = c + 1 with c >= n for candidates c in [q, 2q)
+    for (int q = Integer.highestOneBit(n); q > 0; q <<= 1) {
+      if ((uAll & q) == 0) continue; // highest level is smaller than q for 2^m < n' <= 2^(m+1)
+      int u = uAll & ((q << 1) - 1);
+      int c = q + ((int) (v >>> (bitCount(u) << 5)) & (q - 1));
+      // all later candidates that are smaller than all candidates drawn before are smaller than c
+      if (c < n) continue;
+      // draw the same random values as JumpBackHash at the highest level
+      randomGenerator.resetWithSeed(k);
+      randomGenerator.nextLong();
+      while (true) {
+        long w = randomGenerator.nextLong();
+        int b = (int) w & ((q << 1) - 1);
+        if (b < q) break;
+        if (b < c) {
+          if (b < n) break;
+          c = b;
+        }
+        b = (int) (w >>> 32) & ((q << 1) - 1);
+        if (b < q) break;
+        if (b < c) {
+          if (b < n) break;
+          c = b;
+        }
+      }
+      return c + 1; // overflows to a negative value if c == Integer.MAX_VALUE
+    }
+    return -1;
+  }
+
+  /**
+   * Returns a new bucket history instance. The returned instance can be reused for different keys
+   * by calling {@link BucketHistory#reset(long, int)}, which does not allocate any memory.
+   *
+   * @return a new bucket history instance
+   */
+  public BucketHistory newBucketHistory() {
+    return new BucketHistory();
+  }
+
+  /**
+   * Iterates over all transitions {@code (n, b)} of a key, where {@code n} is a number of buckets
+   * at which the key is moved to bucket {@code b = n - 1}. The first transition is always {@code
+   * (1, 0)}.
+   */
+  public final class BucketHistory {
+
+    private long key;
+    private int maxNumBuckets;
+    private int numBuckets;
+
+    private BucketHistory() {}
+
+    /**
+     * Resets the bucket history for the given key.
+     *
+     * @param k a 64-bit hash value
+     * @param maxNumBuckets the maximum number of buckets up to which transitions are returned
+     * @return this instance
+     */
+    public BucketHistory reset(long k, int maxNumBuckets) {
+      this.key = k;
+      this.maxNumBuckets = maxNumBuckets;
+      this.numBuckets = 0;
+      return this;
+    }
+
+    /**
+     * Advances to the next transition.
+     *
+     * @return {@code true} if there is a further transition up to the maximum number of buckets
+     */
+    public boolean next() {
+      int n = (numBuckets == 0) ? 1 : nextChange(key, numBuckets);
+      if (n < 0 || n > maxNumBuckets) {
+        numBuckets = Integer.MAX_VALUE; // subsequent calls return also false
+        return false;
+      }
+      numBuckets = n;
+      return true;
+    }
+
+    /**
+     * Returns the number of buckets of the current transition.
+     *
+     * @return the number of buckets
+     */
+    public int getNumBuckets() {
+      return numBuckets;
+    }
+
+    /**
+     * Returns the bucket index of the current transition.
+     *
+     * @return the bucket index
+     */
+    public int getBucket() {
+      return numBuckets - 1;
+    }
+  }
+}
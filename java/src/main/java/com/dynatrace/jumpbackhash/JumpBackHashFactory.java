@@ -0,0 +1,260 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+/**
+ * Creates the fastest of several JumpBackHash variants that return the same bucket indices.
+ *
+ * <p>Which variant is fastest depends on the CPU and the JIT compiler. Therefore, the variants are
+ * timed on a fixed sample of keys for a few milliseconds, and the fastest one is returned. The
+ * decision is logged using the {@link System.Logger} of this class. The calibration can be
+ * bypassed by setting the system property {@code com.dynatrace.jumpbackhash.<family>} to the name
+ * of a variant, for example {@code
+ * -Dcom.dynatrace.jumpbackhash.JumpBackHash=JumpBackHashSplitMix64}.
+ *
+ * <p>Within the default budget of 5ms, each variant maps the sample keys a few hundred times at
+ * most. Since the JIT compiler usually applies its optimizing tier only after some ten thousand
+ * invocations, most of this time is spent in interpreted or C1-compiled code. Hence, the
+ * calibration reveals large differences, for example due to slow multiplications or unpredictable
+ * branches on the given CPU, but cannot resolve differences of a few percent in the steady state.
+ * Those should be measured with JMH and fixed using the system property. For the same reason,
+ * {@link JumpBackHashUseSeedAsFirstRandomValueVectorized} is not considered, as the Vector API is
+ * only efficient when compiled by the optimizing tier. Moreover, it only differs from {@link
+ * JumpBackHashUseSeedAsFirstRandomValue} in processing batches of keys, whereas the calibration
+ * times {@link BucketMapper#getBucket(long, int)}.
+ *
+ * <p>The returned bucket mappers are not thread-safe, as some of the variants keep the state of
+ * their pseudo-random generator in fields, and which variant is selected depends on the timing.
+ * Each call returns a new instance, which must not be shared between threads.
+ *
+ * <p>Only variants that return the same bucket indices can replace each other. {@link
+ * JumpBackHashUseSeedAsFirstRandomValue}, {@link JumpBackHashUseSeedAsFirstRandomValueLCG}, and
+ * {@link JumpBackHashUseSeedAsFirstRandomValueXorShift} have no equivalent scalar variant and are
+ * therefore not considered.
+ */
+public final class JumpBackHashFactory {
+
+  /** The default time budget for the calibration. */
+  public static final Duration DEFAULT_CALIBRATION_BUDGET = Duration.ofMillis(5);
+
+  static final String PROPERTY_PREFIX = "com.dynatrace.jumpbackhash.";
+
+  private static final Logger LOGGER = System.getLogger(JumpBackHashFactory.class.getName());
+
+  private static final int NUM_SAMPLE_KEYS = 256;
+  private static final int[] SAMPLE_NUM_BUCKETS = {3, 100, 10_000, 1_000_000};
+  private static final long[] SAMPLE_KEYS =
+      new SplittableRandom(0x3c0a5f1bd4e2a987L).longs(NUM_SAMPLE_KEYS).toArray();
+
+  private JumpBackHashFactory() {}
+
+  /**
+   * Returns the fastest variant that gives the same results as {@link JumpBackHash} with {@link
+   * SplitMix64V1}.
+   *
+   * @return a new bucket mapper, which is not thread-safe
+   */
+  public static BucketMapper createJumpBackHash() {
+    return create("JumpBackHash", getJumpBackHashVariants(), DEFAULT_CALIBRATION_BUDGET);
+  }
+
+  static Map<String, Supplier<BucketMapper>> getJumpBackHashVariants() {
+    Map<String, Supplier<BucketMapper>> variants = new LinkedHashMap<>();
+    variants.put("JumpBackHash", () -> new JumpBackHash(new SplitMix64V1()));
+    variants.put("JumpBackHashSplitMix64", JumpBackHashSplitMix64::new);
+    variants.put("JumpBackHashBranchFree", () -> new JumpBackHashBranchFree(new SplitMix64V1()));
+    return variants;
+  }
+
+  /**
+   * Returns the fastest variant that gives the same results as {@link JumpBackHash32} with {@link
+   * SplitMix64V1}.
+   *
+   * @return a new bucket mapper, which is not thread-safe
+   */
+  public static BucketMapper createJumpBackHash32() {
+    return create("JumpBackHash32", getJumpBackHash32Variants(), DEFAULT_CALIBRATION_BUDGET);
+  }
+
+  static Map<String, Supplier<BucketMapper>> getJumpBackHash32Variants() {
+    Map<String, Supplier<BucketMapper>> variants = new LinkedHashMap<>();
+    variants.put("JumpBackHash32", () -> new JumpBackHash32(new SplitMix64V1()));
+    variants.put("JumpBackHash32SplitMix64", JumpBackHash32SplitMix64::new);
+    return variants;
+  }
+
+  /**
+   * Returns the fastest of the given variants.
+   *
+   * <p>The first variant in iteration order serves as reference. Variants that do not return the
+   * same bucket indices for the sample keys are excluded. If the system property {@code
+   * com.dynatrace.jumpbackhash.<family>} is set, the variant with this name is returned without
+   * calibration.
+   *
+   * @param family the name of the family of variants
+   * @param variants the variants by name
+   * @param budget the time budget for the calibration
+   * @return the bucket mapper
+   * @throws IllegalArgumentException if there are no variants or if the system property does not
+   *     name one of them
+   */
+  public static BucketMapper create(
+      String family, Map<String, Supplier<BucketMapper>> variants, Duration budget) {
+    requireNonNull(family);
+    requireNonNull(budget);
+    if (variants.isEmpty()) throw new IllegalArgumentException("no variants given");
+
+    String override = System.getProperty(PROPERTY_PREFIX + family);
+    if (override != null) {
+      Supplier<BucketMapper> variant = variants.get(override);
+      if (variant == null) {
+        throw new IllegalArgumentException("unknown variant " + override + " of " + family);
+      }
+      LOGGER.log(Level.INFO, "selected {0} for {1} by system property", override, family);
+      return variant.get();
+    }
+    return calibrate(family, variants, budget).mapper;
+  }
+
+  // the outcome of a calibration, which reports its own timing for testing
+  static final class Calibration {
+
+    private final BucketMapper mapper;
+    private final int numRounds;
+    private final long lastRoundStart; // in nanoseconds relative to the deadline
+
+    private Calibration(BucketMapper mapper, int numRounds, long lastRoundStart) {
+      this.mapper = mapper;
+      this.numRounds = numRounds;
+      this.lastRoundStart = lastRoundStart;
+    }
+
+    BucketMapper getMapper() {
+      return mapper;
+    }
+
+    int getNumRounds() {
+      return numRounds;
+    }
+
+    // the calibration exceeds the deadline by less than one round, if the last round started before
+    Duration getLastRoundStartRelativeToDeadline() {
+      return Duration.ofNanos(lastRoundStart);
+    }
+  }
+
+  // times the given non-empty variants until the budget is exhausted
+  static Calibration calibrate(
+      String family, Map<String, Supplier<BucketMapper>> variants, Duration budget) {
+    long deadline = System.nanoTime() + budget.toNanos();
+
+    List<String> names = new ArrayList<>(variants.size());
+    List<BucketMapper> mappers = new ArrayList<>(variants.size());
+    int[] expectedBuckets = new int[NUM_SAMPLE_KEYS];
+    int[] buckets = new int[NUM_SAMPLE_KEYS];
+    for (Map.Entry<String, Supplier<BucketMapper>> variant : variants.entrySet()) {
+      BucketMapper mapper = variant.getValue().get();
+      if (mappers.isEmpty()) {
+        mapSampleKeys(mapper, expectedBuckets);
+      } else if (!Arrays.equals(mapSampleKeys(mapper, buckets), expectedBuckets)) {
+        LOGGER.log(
+            Level.WARNING,
+            "excluded {0} from {1} as it returns different bucket indices",
+            variant.getKey(),
+            family);
+        continue;
+      }
+      names.add(variant.getKey());
+      mappers.add(mapper);
+    }
+
+    // alternate between the variants so that all of them profit equally from JIT compilation
+    long[] minTimes = new long[mappers.size()];
+    Arrays.fill(minTimes, Long.MAX_VALUE);
+    int numRounds = 0;
+    long lastRoundStart;
+    do {
+      lastRoundStart = System.nanoTime();
+      for (int i = 0; i < mappers.size(); ++i) {
+        long start = System.nanoTime();
+        mapSampleKeys(mappers.get(i), buckets);
+        minTimes[i] = Math.min(minTimes[i], System.nanoTime() - start);
+        // also prevents the JIT compiler from eliminating the computation
+        if (!Arrays.equals(buckets, expectedBuckets)) {
+          throw new IllegalStateException("bucket indices of " + names.get(i) + " changed");
+        }
+      }
+      numRounds += 1;
+    } while (System.nanoTime() - deadline < 0);
+
+    int best = indexOfMin(minTimes);
+    StringJoiner timings = new StringJoiner(", ");
+    for (int i = 0; i < mappers.size(); ++i) {
+      timings.add(names.get(i) + "=" + minTimes[i] + "ns");
+    }
+    LOGGER.log(
+        Level.INFO,
+        "selected {0} for {1} after {2} calibration rounds ({3} per {4} keys)",
+        names.get(best),
+        family,
+        numRounds,
+        timings,
+        NUM_SAMPLE_KEYS);
+    return new Calibration(mappers.get(best), numRounds, lastRoundStart - deadline);
+  }
+
+  // returns the smallest index of the minimum value
+  static int indexOfMin(long[] values) {
+    int index = 0;
+    for (int i = 1; i < values.length; ++i) {
+      if (values[i] < values[index]) index = i;
+    }
+    return index;
+  }
+
+  private static int[] mapSampleKeys(BucketMapper mapper, int[] buckets) {
+    for (int i = 0; i < NUM_SAMPLE_KEYS; ++i) {
+      int numBuckets = SAMPLE_NUM_BUCKETS[i % SAMPLE_NUM_BUCKETS.length];
+      buckets[i] = mapper.getBucket(SAMPLE_KEYS[i], numBuckets);
+    }
+    return buckets;
+  }
+}
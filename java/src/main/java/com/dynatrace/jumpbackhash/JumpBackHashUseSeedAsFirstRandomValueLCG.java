@@ -28,6 +28,9 @@ package com.dynatrace.jumpbackhash;
 
 import static java.lang.Integer.bitCount;
 import static java.lang.Integer.numberOfLeadingZeros;
+import static java.util.Objects.checkFromToIndex;
+
+import java.util.Arrays;
 
 /**
  * This is an implementation of JumpBackHash that uses the 64-bit hash key directly as random value.
@@ -46,8 +49,26 @@ public class JumpBackHashUseSeedAsFirstRandomValueLCG implements BucketMapper {
   @Override
   public int getBucket(long k, int n) {
     if (n <= 1) return 0;
+    return getBucket(k, n, ~0 >>> numberOfLeadingZeros(n - 1));
+  }
+
+  @Override
+  public void getBuckets(long[] keys, int fromIndex, int toIndex, int n, int[] buckets) {
+    checkFromToIndex(fromIndex, toIndex, keys.length);
+    checkFromToIndex(fromIndex, toIndex, buckets.length);
+    if (n <= 1) {
+      Arrays.fill(buckets, fromIndex, toIndex, 0);
+      return;
+    }
+    int mask = ~0 >>> numberOfLeadingZeros(n - 1); // only depends on n
+    for (int i = fromIndex; i < toIndex; ++i) {
+      buckets[i] = getBucket(keys[i], n, mask);
+    }
+  }
+
+  private static int getBucket(long k, int n, int mask) {
     long v = k; // use key as 64-bit random value
-    int u = (int) (k ^ (k >>> 32)) & (~0 >>> numberOfLeadingZeros(n - 1));
+    int u = (int) (k ^ (k >>> 32)) & mask;
     if (u == 0) return 0;
     int q = 1 << ~numberOfLeadingZeros(u); // q = 2^m
     int b = q + ((int) (v >>> (bitCount(u) << 5)) & (q - 1));
@@ -0,0 +1,114 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static java.lang.Integer.numberOfLeadingZeros;
+import static java.util.Objects.checkFromToIndex;
+
+import java.util.Arrays;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * This is an implementation of JumpBackHash that maps batches of keys using the Vector API. It
+ * gives the same results as {@link JumpBackHashUseSeedAsFirstRandomValue}.
+ *
+ * <p>As the 64-bit hash key is used directly as random value, the first iteration of the outer loop
+ * of JumpBackHash does not need any further random values and can be computed for several keys at
+ * once. Only for keys for which the resulting bucket index is not smaller than the number of
+ * buckets, the pseudo-random generator is needed, and they are mapped one after the other.
+ */
+public class JumpBackHashUseSeedAsFirstRandomValueVectorized implements BucketMapper {
+
+  private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+
+  // species for 32-bit integers with the same number of lanes as LONG_SPECIES
+  private static final VectorSpecies<Integer> INT_SPECIES =
+      VectorSpecies.of(int.class, VectorShape.forBitSize(LONG_SPECIES.vectorBitSize() / 2));
+
+  private final JumpBackHashUseSeedAsFirstRandomValue scalarMapper;
+
+  public JumpBackHashUseSeedAsFirstRandomValueVectorized(
+      PseudoRandomGenerator pseudoRandomGenerator) {
+    this.scalarMapper = new JumpBackHashUseSeedAsFirstRandomValue(pseudoRandomGenerator);
+  }
+
+  @Override
+  public int getBucket(long k, int n) {
+    return scalarMapper.getBucket(k, n);
+  }
+
+  @Override
+  public void getBuckets(long[] keys, int fromIndex, int toIndex, int n, int[] buckets) {
+    checkFromToIndex(fromIndex, toIndex, keys.length);
+    checkFromToIndex(fromIndex, toIndex, buckets.length);
+    if (n <= 1) {
+      Arrays.fill(buckets, fromIndex, toIndex, 0);
+      return;
+    }
+    int mask = ~0 >>> numberOfLeadingZeros(n - 1);
+    int i = fromIndex;
+    for (int end = fromIndex + LONG_SPECIES.loopBound(toIndex - fromIndex);
+        i < end;
+        i += LONG_SPECIES.length()) {
+      LongVector v = LongVector.fromArray(LONG_SPECIES, keys, i);
+      IntVector vLow = (IntVector) v.convertShape(VectorOperators.L2I, INT_SPECIES, 0);
+      IntVector vHigh =
+          (IntVector)
+              v.lanewise(VectorOperators.LSHR, 32)
+                  .convertShape(VectorOperators.L2I, INT_SPECIES, 0);
+      IntVector u = vLow.lanewise(VectorOperators.XOR, vHigh).and(mask);
+      // q = 2^m, is equal to Integer.MIN_VALUE if u == 0
+      IntVector q =
+          IntVector.broadcast(INT_SPECIES, 1)
+              .lanewise(
+                  VectorOperators.LSHL,
+                  u.lanewise(VectorOperators.LEADING_ZEROS_COUNT).lanewise(VectorOperators.NOT));
+      // use the upper 32 bits of v if the bit count of u is odd, the lower 32 bits otherwise
+      VectorMask<Integer> odd =
+          u.lanewise(VectorOperators.BIT_COUNT).and(1).compare(VectorOperators.NE, 0);
+      IntVector b =
+          q.add(vLow.blend(vHigh, odd).and(q.sub(1))).blend(0, u.compare(VectorOperators.EQ, 0));
+      b.intoArray(buckets, i);
+      VectorMask<Integer> fallback = b.compare(VectorOperators.GE, n);
+      if (fallback.anyTrue()) {
+        // further random values are needed, map the corresponding keys one after the other
+        for (long lanes = fallback.toLong(); lanes != 0; lanes &= lanes - 1) {
+          int j = i + Long.numberOfTrailingZeros(lanes);
+          buckets[j] = scalarMapper.getBucket(keys[j], n);
+        }
+      }
+    }
+    for (; i < toIndex; ++i) {
+      buckets[i] = scalarMapper.getBucket(keys[i], n);
+    }
+  }
+}
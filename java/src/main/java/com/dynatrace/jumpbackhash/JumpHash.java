@@ -26,8 +26,11 @@
 //
 package com.dynatrace.jumpbackhash;
 
+import static java.util.Objects.checkFromToIndex;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
+
 public class JumpHash implements BucketMapper {
 
   private final PseudoRandomGenerator randomGenerator;
@@ -50,4 +53,18 @@ public class JumpHash implements BucketMapper {
     }
     return b;
   }
+
+  @Override
+  public void getBuckets(long[] keys, int fromIndex, int toIndex, int n, int[] buckets) {
+    checkFromToIndex(fromIndex, toIndex, keys.length);
+    checkFromToIndex(fromIndex, toIndex, buckets.length);
+    if (n == 1) {
+      // no need to consume any random values
+      Arrays.fill(buckets, fromIndex, toIndex, 0);
+      return;
+    }
+    for (int i = fromIndex; i < toIndex; ++i) {
+      buckets[i] = getBucket(keys[i], n);
+    }
+  }
 }
@@ -0,0 +1,100 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static com.dynatrace.jumpbackhash.SplitMix64V1.GOLDEN_GAMMA;
+import static com.dynatrace.jumpbackhash.SplitMix64V1.mix;
+import static java.lang.Long.numberOfLeadingZeros;
+import static java.lang.Math.unsignedMultiplyHigh;
+
+/**
+ * This is an implementation of JumpHash that gives the same results as {@link JumpHash} with {@link
+ * SplitMix64V1} as pseudo-random generator, but does not use floating-point division.
+ *
+ * <p>JumpHash computes the next bucket index as {@code (int) ((b + 1) / (r * 0x1.0p-53))} with a
+ * random 53-bit integer {@code r}. Here, the quotient {@code (b + 1) * 2^53 / r} is obtained by
+ * multiplying with a fixed-point reciprocal of {@code r}, which is computed from a table of 2^8
+ * initial approximations using two Newton-Raphson iterations. The reciprocal is never too large and
+ * accurate enough that the truncated quotient is either exact or one too small, which is detected
+ * and corrected using the remainder. The remainder also tells whether the floating-point division
+ * would have rounded up to the next integer, in which case the result is incremented as well.
+ * Like {@link JumpHashSplitMix64}, this class is stateless and a single instance can be shared by
+ * multiple threads.
+ */
+public class JumpHashDivisionFree implements BucketMapper {
+
+  private static final int TABLE_BITS = 8;
+
+  // RECIPROCALS[i] approximates 2^31 / (1 + (i + 1/2) / 2^8) with a relative error below 2^-9
+  private static final int[] RECIPROCALS = new int[1 << TABLE_BITS];
+
+  static {
+    for (int i = 0; i < RECIPROCALS.length; ++i) {
+      RECIPROCALS[i] = (int) (0x1p39 / (RECIPROCALS.length + i + 0.5));
+    }
+  }
+
+  @Override
+  public int getBucket(long k, int n) {
+    long s = k; // state of SplitMix64
+    int b = -1;
+    int bPrime = 0;
+    while (bPrime < n) {
+      b = bPrime;
+      s += GOLDEN_GAMMA;
+      bPrime = getNextBucket(b, mix(s) >>> 11);
+    }
+    return b;
+  }
+
+  // returns (int) ((b + 1) / (r * 0x1.0p-53)) for 0 <= b < Integer.MAX_VALUE and 0 <= r < 2^53
+  static int getNextBucket(int b, long r) {
+    int shift = numberOfLeadingZeros(r);
+    if (shift >= 42) return Integer.MAX_VALUE; // r < 2^22, the quotient is greater than 2^31
+    long m = r << shift; // m / 2^63 is in [1, 2)
+
+    // y / 2^63 approximates 2^63 / m, every Newton-Raphson iteration squares the relative error,
+    // which keeps the approximation below the exact value, but truncation may add up to 2
+    long y = (long) RECIPROCALS[(int) (m >>> (63 - TABLE_BITS)) & ~(-1 << TABLE_BITS)] << 32;
+    y = unsignedMultiplyHigh(y, Long.MIN_VALUE - unsignedMultiplyHigh(m, y)) << 2;
+    y = unsignedMultiplyHigh(y, Long.MIN_VALUE - unsignedMultiplyHigh(m, y)) << 2;
+    y -= 2; // relative error in [0, 2^-35]
+
+    // floor((b + 1) * 2^53 / r) or one less
+    long q = unsignedMultiplyHigh((long) (b + 1) << 33, y) >>> (42 - shift);
+    if (q >= Integer.MAX_VALUE) return Integer.MAX_VALUE;
+    long remainder = ((long) (b + 1) << 53) - q * r; // exact in 64 bits as it is less than 2 * r
+    if (remainder >= r) {
+      q += 1;
+      remainder -= r;
+    }
+    // the division rounds up to q + 1, if the distance (r - remainder) / r is not greater than half
+    // an ulp of q, which is 2^(10 - nlz(q)), as q + 1 is even in case of a tie
+    if (r - remainder <= r >>> (numberOfLeadingZeros(q) - 10)) q += 1;
+    return (int) Math.min(q, Integer.MAX_VALUE);
+  }
+}
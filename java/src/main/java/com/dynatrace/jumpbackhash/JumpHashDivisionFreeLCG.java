@@ -0,0 +1,59 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static com.dynatrace.jumpbackhash.JumpHashDivisionFree.getNextBucket;
+
+/**
+ * This is an implementation of JumpHash that gives the same results as Guava's {@code
+ * Hashing.consistentHash}, but does not use floating-point division.
+ *
+ * <p>Guava draws the random values from a linear congruential generator (see {@link
+ * GuavaLinearCongruentialGenerator}) and computes the next bucket index as {@code (int) ((b + 1) /
+ * (r * 0x1.0p-31))} with {@code r = (int) (x >>> 33) + 1}. As this is equal to {@code (int) ((b +
+ * 1) / ((r << 22) * 0x1.0p-53))}, the reciprocal approximation of {@link JumpHashDivisionFree}
+ * applies as well. If {@code r} overflows, which happens with probability 2^-31, the quotient is
+ * negative and Guava returns the current bucket index, which is replicated here. This class is
+ * stateless and a single instance can be shared by multiple threads.
+ */
+public class JumpHashDivisionFreeLCG implements BucketMapper {
+
+  @Override
+  public int getBucket(long k, int n) {
+    long s = k; // state of the LCG
+    int b = -1;
+    int bPrime = 0;
+    while (bPrime < n) {
+      b = bPrime;
+      s = GuavaLinearCongruentialGenerator.MULTIPLIER * s + 1;
+      int r = (int) (s >>> 33) + 1;
+      if (r < 0) break;
+      bPrime = getNextBucket(b, (long) r << 22);
+    }
+    return b;
+  }
+}
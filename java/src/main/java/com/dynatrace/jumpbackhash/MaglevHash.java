@@ -0,0 +1,242 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static java.util.Objects.checkFromToIndex;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
+
+/**
+ * A bucket mapper based on the lookup table of Maglev, the network load balancer described in
+ * Eisenbud et al., "Maglev: A Fast and Reliable Software Network Load Balancer", NSDI 2016.
+ *
+ * <p>Each bucket has its own permutation of the table slots, defined by an offset and a skip. The
+ * table is populated by letting the buckets claim their next free preferred slot in turns, until
+ * all slots are claimed. Therefore, each bucket owns either {@code floor(M/n)} or {@code ceil(M/n)}
+ * slots, where {@code M} is the prime table size. Lookups take constant time, but the mapping is
+ * not monotone, as some keys move between existing buckets when {@code n} changes. The table size
+ * must not be smaller than the number of buckets and should be much larger for good balance.
+ *
+ * <p>The table is built when the number of buckets differs from the previous call, and the
+ * permutations of already known buckets are reused. The last two tables are kept, so that
+ * alternating between an old and a new number of buckets, as when planning a resize, does not
+ * rebuild the table for every key. If constructed with a {@link ForkJoinPool}, the buckets search
+ * their next free slot in parallel in each turn, which yields the same table.
+ *
+ * <p>Instances are not thread-safe.
+ */
+public class MaglevHash implements BucketMapper {
+
+  /** The default table size, a prime as proposed in the Maglev paper. */
+  public static final int DEFAULT_TABLE_SIZE = 65537;
+
+  private static final long OFFSET_SEED = 0x7a3c9e5b1d8f2046L;
+  private static final long SKIP_SEED = 0x2e8b4f1a6c9d3075L;
+  private static final int MIN_BUCKETS_PER_TASK = 1 << 10;
+
+  private final int tableSize;
+  private final ForkJoinPool pool; // null for sequential table builds
+
+  // permutations of the first numPermutations buckets
+  private int[] offsets = new int[0];
+  private int[] skips = new int[0];
+  private int numPermutations = 0;
+
+  // next preferred slot of each bucket while populating
+  private int[] slots = new int[0];
+
+  private int[] table = null;
+  private int tableNumBuckets = -1;
+  private int[] previousTable = null;
+  private int previousTableNumBuckets = -1;
+
+  /** Constructor using the default table size. */
+  public MaglevHash() {
+    this(DEFAULT_TABLE_SIZE);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param tableSize the table size, must be a prime
+   */
+  public MaglevHash(int tableSize) {
+    this.tableSize = checkTableSize(tableSize);
+    this.pool = null;
+  }
+
+  /**
+   * Constructor for building tables in parallel.
+   *
+   * @param tableSize the table size, must be a prime
+   * @param pool the pool used for building tables
+   */
+  public MaglevHash(int tableSize, ForkJoinPool pool) {
+    this.tableSize = checkTableSize(tableSize);
+    this.pool = requireNonNull(pool);
+  }
+
+  private static int checkTableSize(int tableSize) {
+    boolean isPrime = tableSize >= 2;
+    for (int d = 2; isPrime && d <= tableSize / d; ++d) {
+      isPrime = tableSize % d != 0;
+    }
+    if (!isPrime) throw new IllegalArgumentException("table size must be a prime");
+    return tableSize;
+  }
+
+  @Override
+  public int getBucket(long hash, int numBuckets) {
+    return getTable(numBuckets)[(int) Math.unsignedMultiplyHigh(hash, tableSize)];
+  }
+
+  @Override
+  public void getBuckets(long[] hashes, int fromIndex, int toIndex, int numBuckets, int[] buckets) {
+    checkFromToIndex(fromIndex, toIndex, hashes.length);
+    checkFromToIndex(fromIndex, toIndex, buckets.length);
+    int[] t = getTable(numBuckets);
+    for (int i = fromIndex; i < toIndex; ++i) {
+      buckets[i] = t[(int) Math.unsignedMultiplyHigh(hashes[i], tableSize)];
+    }
+  }
+
+  // the bound bucket mapper keeps a copy of the table, as cached tables are repopulated when the
+  // number of buckets changes, hence it is thread-safe
+  @Override
+  public BoundBucketMapper forBuckets(int numBuckets) {
+    int[] t = getTable(numBuckets).clone();
+    int size = tableSize;
+    return hash -> t[(int) Math.unsignedMultiplyHigh(hash, size)];
+  }
+
+  /**
+   * Returns the table size.
+   *
+   * @return the table size
+   */
+  public int getTableSize() {
+    return tableSize;
+  }
+
+  // returns the number of bytes allocated for tables and permutations
+  long getMemoryFootprint() {
+    long numInts = offsets.length + skips.length + slots.length;
+    if (table != null) numInts += table.length;
+    if (previousTable != null) numInts += previousTable.length;
+    return numInts * Integer.BYTES;
+  }
+
+  int[] getTable(int numBuckets) {
+    if (numBuckets == tableNumBuckets) return table;
+    if (numBuckets < 1 || numBuckets > tableSize) {
+      throw new IllegalArgumentException(
+          "number of buckets must be positive and must not exceed the table size");
+    }
+    int[] t = previousTable;
+    int n = previousTableNumBuckets;
+    previousTable = table;
+    previousTableNumBuckets = tableNumBuckets;
+    if (n != numBuckets) {
+      if (t == null) t = new int[tableSize];
+      populate(t, numBuckets);
+      n = numBuckets;
+    }
+    table = t;
+    tableNumBuckets = n;
+    return t;
+  }
+
+  private void ensurePermutations(int numBuckets) {
+    if (numBuckets <= numPermutations) return;
+    if (numBuckets > offsets.length) {
+      int capacity = Math.min(tableSize, Math.max(numBuckets, 2 * offsets.length));
+      offsets = Arrays.copyOf(offsets, capacity);
+      skips = Arrays.copyOf(skips, capacity);
+    }
+    for (int b = numPermutations; b < numBuckets; ++b) {
+      long z = b * SplitMix64V1.GOLDEN_GAMMA;
+      offsets[b] = (int) Math.unsignedMultiplyHigh(SplitMix64V1.mix(z + OFFSET_SEED), tableSize);
+      skips[b] =
+          1 + (int) Math.unsignedMultiplyHigh(SplitMix64V1.mix(z + SKIP_SEED), tableSize - 1);
+    }
+    numPermutations = numBuckets;
+  }
+
+  // returns the slot following the given one in the permutation with the given skip
+  private int next(int slot, int skip) {
+    int s = slot - (tableSize - skip); // avoids overflow for table sizes close to 2^31
+    return (s < 0) ? s + tableSize : s;
+  }
+
+  private void populate(int[] t, int numBuckets) {
+    ensurePermutations(numBuckets);
+    if (slots.length < numBuckets) slots = new int[offsets.length];
+    System.arraycopy(offsets, 0, slots, 0, numBuckets);
+    Arrays.fill(t, -1);
+    int numTasks =
+        (pool != null) ? Math.min(4 * pool.getParallelism(), numBuckets / MIN_BUCKETS_PER_TASK) : 0;
+    int numFilled = 0;
+    while (true) {
+      if (numTasks >= 2) skipFilledSlots(t, numBuckets, numTasks);
+      for (int b = 0; b < numBuckets; ++b) {
+        int slot = slots[b];
+        int skip = skips[b];
+        while (t[slot] >= 0) slot = next(slot, skip);
+        t[slot] = b;
+        slots[b] = next(slot, skip);
+        if (++numFilled == tableSize) return;
+      }
+    }
+  }
+
+  // advances the preferred slots of all buckets beyond the already claimed slots
+  private void skipFilledSlots(int[] t, int numBuckets, int numTasks) {
+    pool.invoke(
+        ForkJoinTask.adapt(
+            () ->
+                ForkJoinTask.invokeAll(
+                    IntStream.range(0, numTasks)
+                        .mapToObj(
+                            task ->
+                                ForkJoinTask.adapt(
+                                    () -> {
+                                      int from = (int) ((long) numBuckets * task / numTasks);
+                                      int to = (int) ((long) numBuckets * (task + 1) / numTasks);
+                                      for (int b = from; b < to; ++b) {
+                                        int slot = slots[b];
+                                        int skip = skips[b];
+                                        while (t[slot] >= 0) slot = next(slot, skip);
+                                        slots[b] = slot;
+                                      }
+                                    }))
+                        .toList())));
+  }
+}
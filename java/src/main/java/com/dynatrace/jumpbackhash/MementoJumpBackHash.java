@@ -0,0 +1,236 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * A consistent mapping of hash values to buckets that supports the removal of arbitrary buckets,
+ * following the MementoHash approach on top of JumpBackHash.
+ *
+ * <p>The buckets are identified by the indices {@code [0, n)}, of which some may have been removed.
+ * As long as no bucket has been removed, the mapping is equivalent to {@link JumpBackHash} with
+ * {@code n} buckets. A removed bucket is remembered together with the number of working buckets
+ * {@code w} after its removal and the previously removed bucket. Keys mapped to a removed bucket
+ * are rehashed to a bucket in {@code [0, w)}, where buckets removed before are replaced by the
+ * bucket that took their place. Hence, removals are minimally disruptive, only keys of the removed
+ * bucket are moved.
+ *
+ * <p>Removed buckets are restored in reverse order of their removal, which restores the previous
+ * mapping. Removal information is kept in an open addressing hash table, therefore, the memory
+ * footprint is proportional to the number of removed buckets. Without removals, the lookup time is
+ * the same as for JumpBackHash. With {@code w} working buckets the expected number of rehashing
+ * steps grows logarithmically with {@code n / w}, while the number of table lookups to resolve
+ * replaced buckets grows roughly linearly with {@code n / w}.
+ *
+ * <p>Instances are mutable and not thread-safe.
+ */
+public class MementoJumpBackHash {
+
+  private static final int EMPTY = -1;
+  private static final long EMPTY_ENTRY = -1L; // removed bucket and replacer both equal to EMPTY
+  private static final int MIN_CAPACITY = 16;
+  private static final long REHASH_MULTIPLIER = 0xc6a4a7935bd1e995L;
+
+  private final PseudoRandomGenerator randomGenerator;
+  private final JumpBackHash jumpBackHash;
+
+  private int size; // n, the number of working and removed buckets
+  private int lastRemoved = EMPTY;
+  private int numRemoved;
+
+  // open addressing hash table with linear probing, maps removed buckets to replacer and previously
+  // removed bucket, each entry holds the removed bucket in the upper and the replacer in the lower
+  // 32 bits, which requires a single memory access per probe during lookups
+  private long[] entries;
+  private int[] previousRemoved;
+
+  /**
+   * Constructor.
+   *
+   * @param pseudoRandomGenerator the pseudo-random generator
+   * @param numBuckets the initial number of buckets, must be positive
+   */
+  public MementoJumpBackHash(PseudoRandomGenerator pseudoRandomGenerator, int numBuckets) {
+    if (numBuckets < 1) throw new IllegalArgumentException("number of buckets must be positive");
+    this.randomGenerator = requireNonNull(pseudoRandomGenerator);
+    this.jumpBackHash = new JumpBackHash(pseudoRandomGenerator);
+    this.size = numBuckets;
+    allocate(MIN_CAPACITY);
+  }
+
+  /**
+   * Returns the index of a working bucket based on the given hash value.
+   *
+   * @param hash a 64-bit hash value
+   * @return the bucket index
+   */
+  public int getBucket(long hash) {
+    int b = jumpBackHash.getBucket(hash, size);
+    if (numRemoved == 0) return b;
+    int w = getReplacer(b);
+    while (w >= 0) {
+      // b was removed, w is the number of working buckets after its removal
+      randomGenerator.resetWithSeed(hash ^ ((b + 1L) * REHASH_MULTIPLIER)); // never equal to hash
+      int h = (int) ((randomGenerator.nextLong() >>> 1) % w);
+      int r = getReplacer(h);
+      while (r >= w) {
+        // h was removed before b and has been replaced by r
+        h = r;
+        r = getReplacer(h);
+      }
+      b = h;
+      w = r;
+    }
+    return b;
+  }
+
+  /**
+   * Removes the given bucket.
+   *
+   * @param bucket the index of a working bucket
+   * @throws IllegalArgumentException if the bucket index is out of range or has already been
+   *     removed
+   * @throws IllegalStateException if the given bucket is the last working bucket
+   */
+  public void removeBucket(int bucket) {
+    if (!isWorking(bucket)) throw new IllegalArgumentException("bucket is not working");
+    if (getNumBuckets() == 1) throw new IllegalStateException("cannot remove last working bucket");
+    if (numRemoved == 0 && bucket == size - 1) {
+      size -= 1; // removing the last bucket is natively supported by JumpBackHash
+      return;
+    }
+    put(bucket, getNumBuckets() - 1, lastRemoved);
+    lastRemoved = bucket;
+  }
+
+  /**
+   * Adds a bucket. If there are removed buckets, the most recently removed one is restored,
+   * otherwise a new bucket is appended.
+   *
+   * @return the index of the added bucket
+   */
+  public int addBucket() {
+    if (numRemoved == 0) return size++;
+    int bucket = lastRemoved;
+    int i = findSlot(bucket);
+    lastRemoved = previousRemoved[i];
+    // the entry was inserted last, hence no other entries need to be moved
+    entries[i] = EMPTY_ENTRY;
+    numRemoved -= 1;
+    if (entries.length > MIN_CAPACITY && 8 * numRemoved < entries.length) {
+      resize(entries.length / 2);
+    }
+    return bucket;
+  }
+
+  /**
+   * Returns the number of working buckets.
+   *
+   * @return the number of working buckets
+   */
+  public int getNumBuckets() {
+    return size - numRemoved;
+  }
+
+  /**
+   * Returns {@code true} if the given bucket index refers to a working bucket.
+   *
+   * @param bucket the bucket index
+   * @return {@code true} if the bucket is working
+   */
+  public boolean isWorking(int bucket) {
+    return bucket >= 0 && bucket < size && getReplacer(bucket) < 0;
+  }
+
+  private void allocate(int capacity) {
+    entries = new long[capacity];
+    previousRemoved = new int[capacity];
+    Arrays.fill(entries, EMPTY_ENTRY);
+  }
+
+  private int getSlot(int bucket) {
+    return (int) ((bucket * 0x9e3779b97f4a7c15L) >>> 32) & (entries.length - 1);
+  }
+
+  private static int getRemovedBucket(long entry) {
+    return (int) (entry >> 32);
+  }
+
+  private int getReplacer(int bucket) {
+    int mask = entries.length - 1;
+    for (int i = getSlot(bucket); ; i = (i + 1) & mask) {
+      long entry = entries[i];
+      int b = getRemovedBucket(entry);
+      if (b == bucket) return (int) entry;
+      if (b == EMPTY) return EMPTY;
+    }
+  }
+
+  private void put(int bucket, int replacer, int previous) {
+    if (2 * (numRemoved + 1) > entries.length) resize(2 * entries.length);
+    insert(((long) bucket << 32) | replacer, previous);
+    numRemoved += 1;
+  }
+
+  private void insert(long entry, int previous) {
+    int mask = entries.length - 1;
+    int i = getSlot(getRemovedBucket(entry));
+    while (entries[i] != EMPTY_ENTRY) i = (i + 1) & mask;
+    entries[i] = entry;
+    previousRemoved[i] = previous;
+  }
+
+  // returns the slot of the given bucket, which must be contained
+  private int findSlot(int bucket) {
+    int mask = entries.length - 1;
+    int i = getSlot(bucket);
+    while (getRemovedBucket(entries[i]) != bucket) i = (i + 1) & mask;
+    return i;
+  }
+
+  // reinserts all entries in the order of removal, so that the table is in the same state as if
+  // the entries had been inserted one after another, which allows to delete the last one without
+  // moving other entries
+  private void resize(int capacity) {
+    long[] orderedEntries = new long[numRemoved];
+    int[] orderedPreviousRemoved = new int[numRemoved];
+    int bucket = lastRemoved;
+    for (int j = numRemoved - 1; j >= 0; --j) {
+      int i = findSlot(bucket);
+      orderedEntries[j] = entries[i];
+      orderedPreviousRemoved[j] = previousRemoved[i];
+      bucket = previousRemoved[i];
+    }
+    allocate(capacity);
+    for (int j = 0; j < orderedEntries.length; ++j) {
+      insert(orderedEntries[j], orderedPreviousRemoved[j]);
+    }
+  }
+}
@@ -26,10 +26,48 @@
 //
 package com.dynatrace.jumpbackhash;
 
+import static java.util.Objects.checkFromToIndex;
+
 public class ModuloMapper implements BucketMapper {
 
   @Override
   public int getBucket(long k, int n) {
     return (int) ((k & 0x7FFFFFFFFFFFFFFFL) % n); // ignore sign bit to ensure nonnegative result
   }
+
+  @Override
+  public BoundBucketMapper forBuckets(int n) {
+    if (n < 1) throw new IllegalArgumentException("number of buckets must be positive");
+    if ((n & (n - 1)) == 0) {
+      // for powers of two the remainder is given by the lowest bits
+      int mask = n - 1;
+      return k -> (int) k & mask;
+    }
+    FastMod fastMod = new FastMod(n);
+    return k -> (int) fastMod.remainderUnsigned(k & 0x7FFFFFFFFFFFFFFFL);
+  }
+
+  @Override
+  public void getBuckets(long[] keys, int fromIndex, int toIndex, int n, int[] buckets) {
+    checkFromToIndex(fromIndex, toIndex, keys.length);
+    checkFromToIndex(fromIndex, toIndex, buckets.length);
+    if (n > 0 && (n & (n - 1)) == 0) {
+      // for powers of two the remainder is given by the lowest bits
+      int mask = n - 1;
+      for (int i = fromIndex; i < toIndex; ++i) {
+        buckets[i] = (int) keys[i] & mask;
+      }
+    } else if (n > 0) {
+      // replaces the division by a multiplication with the precomputed reciprocal
+      FastMod fastMod = new FastMod(n);
+      for (int i = fromIndex; i < toIndex; ++i) {
+        buckets[i] = (int) fastMod.remainderUnsigned(keys[i] & 0x7FFFFFFFFFFFFFFFL);
+      }
+    } else {
+      long d = n;
+      for (int i = fromIndex; i < toIndex; ++i) {
+        buckets[i] = (int) ((keys[i] & 0x7FFFFFFFFFFFFFFFL) % d);
+      }
+    }
+  }
 }
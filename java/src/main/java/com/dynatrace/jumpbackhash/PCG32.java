@@ -0,0 +1,69 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+// the PCG32 pseudo-random generator (XSH RR 64/32 output function), which natively generates 32-bit
+// values, a 64-bit value is composed of two consecutive 32-bit values starting with the lower half
+// see O'Neill, Melissa E. "PCG: A family of simple fast space-efficient statistically good
+// algorithms for random number generation." Technical Report HMC-CS-2014-0905, Harvey Mudd College
+// (2014).
+final class PCG32 implements PseudoRandomGenerator {
+
+  static final long MULTIPLIER = 0x5851f42d4c957f2dL;
+  static final long INCREMENT = 0xda3e39cb94b95bdbL;
+
+  // 64-bit state of the linear congruential generator
+  private long state;
+
+  // returns the next state, which allows keeping the state in local variables
+  static long step(long state) {
+    return state * MULTIPLIER + INCREMENT;
+  }
+
+  // returns the random value for the given state
+  static int output(long state) {
+    return Integer.rotateRight((int) (((state >>> 18) ^ state) >>> 27), (int) (state >>> 59));
+  }
+
+  @Override
+  public int nextInt() {
+    long s = state;
+    state = step(s);
+    return output(s);
+  }
+
+  @Override
+  public long nextLong() {
+    return (nextInt() & 0xFFFFFFFFL) | ((long) nextInt() << 32);
+  }
+
+  // same as pcg32_srandom_r with the seed as initial state and the default increment
+  @Override
+  public void resetWithSeed(long seed) {
+    state = step(INCREMENT + seed);
+  }
+}
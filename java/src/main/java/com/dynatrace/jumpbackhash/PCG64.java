@@ -0,0 +1,88 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+// the PCG64 pseudo-random generator (XSL RR 128/64 output function), which is also the default bit
+// generator of NumPy
+// see O'Neill, Melissa E. "PCG: A family of simple fast space-efficient statistically good
+// algorithms for random number generation." Technical Report HMC-CS-2014-0905, Harvey Mudd College
+// (2014).
+final class PCG64 implements PseudoRandomGenerator {
+
+  static final long MULTIPLIER_HIGH = 0x2360ed051fc65da4L;
+  static final long MULTIPLIER_LOW = 0x4385df649fccf645L;
+  static final long INCREMENT_HIGH = 0x5851f42d4c957f2dL;
+  static final long INCREMENT_LOW = 0x14057b7ef767814fL;
+
+  // 128-bit state of the linear congruential generator
+  private long stateHigh;
+  private long stateLow;
+
+  private void step() {
+    stateHigh = stepHigh(stateHigh, stateLow);
+    stateLow = stepLow(stateLow);
+  }
+
+  // returns the upper 64 bits of the next state, which allows keeping the state in local variables
+  static long stepHigh(long high, long low) {
+    long product = low * MULTIPLIER_LOW;
+    return Math.unsignedMultiplyHigh(low, MULTIPLIER_LOW)
+        + low * MULTIPLIER_HIGH
+        + high * MULTIPLIER_LOW
+        + INCREMENT_HIGH
+        + carry(product, INCREMENT_LOW, product + INCREMENT_LOW);
+  }
+
+  // returns the lower 64 bits of the next state
+  static long stepLow(long low) {
+    return low * MULTIPLIER_LOW + INCREMENT_LOW;
+  }
+
+  // returns the random value for the given state
+  static long output(long high, long low) {
+    return Long.rotateRight(high ^ low, (int) (high >>> 58));
+  }
+
+  // returns the carry of the unsigned addition a + b = sum without branching
+  static long carry(long a, long b, long sum) {
+    return ((a & b) | ((a | b) & ~sum)) >>> 63;
+  }
+
+  @Override
+  public long nextLong() {
+    step();
+    return output(stateHigh, stateLow);
+  }
+
+  // same as pcg64_srandom_r with the seed as initial state and the default increment
+  @Override
+  public void resetWithSeed(long seed) {
+    stateLow = INCREMENT_LOW + seed;
+    stateHigh = INCREMENT_HIGH + carry(INCREMENT_LOW, seed, stateLow);
+    step();
+  }
+}
@@ -0,0 +1,78 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static java.lang.Integer.numberOfLeadingZeros;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Power consistent hashing as described in Leu, "Fast Consistent Hashing in Constant Time", 2023.
+ *
+ * <p>With {@code m} being the smallest power of two not smaller than {@code n}, a key is first
+ * mapped consistently to one of {@code m} buckets. Only if the result is not smaller than {@code
+ * n}, a few jumps as in JumpHash starting at bucket {@code m/2 - 1} decide whether the key is
+ * mapped to one of the upper buckets from {@code m/2} to {@code n - 1}, or consistently to one of
+ * the lower {@code m/2} buckets. The expected number of consumed random values is constant.
+ */
+public class PowerConsistentHash implements BucketMapper {
+
+  private final PseudoRandomGenerator randomGenerator;
+
+  public PowerConsistentHash(PseudoRandomGenerator pseudoRandomGenerator) {
+    this.randomGenerator = requireNonNull(pseudoRandomGenerator);
+  }
+
+  @Override
+  public int getBucket(long k, int n) {
+    if (n <= 1) return 0;
+    randomGenerator.resetWithSeed(k);
+    long h = randomGenerator.nextLong();
+    int mask = ~0 >>> numberOfLeadingZeros(n - 1); // m - 1
+    int b = relocateWithinLevel(h, mask);
+    if (b < n) return b;
+    int lowerMask = mask >>> 1; // m/2 - 1
+    int bPrime = lowerMask;
+    do {
+      b = bPrime;
+      bPrime = (int) ((b + 1) / randomGenerator.nextDouble());
+    } while (bPrime < n);
+    if (b > lowerMask) return b;
+    return relocateWithinLevel(h, lowerMask);
+  }
+
+  // Returns a bucket index in [0, mask], where mask + 1 is a power of two. As in JumpBackHash, the
+  // level [2^i, 2^(i+1)) is given by the highest set bit of the masked bits of v ^ (v >>> 32), and
+  // the offset within the level is taken from the lower or upper half of v depending on the parity
+  // of their bit count. Hence, the offset is uniformly distributed and independent of the level,
+  // and extending the mask either leaves the result unchanged or moves it into the extended range.
+  static int relocateWithinLevel(long v, int mask) {
+    int u = (int) (v ^ (v >>> 32)) & mask;
+    if (u == 0) return 0;
+    int q = Integer.highestOneBit(u);
+    return q + ((int) (v >>> (Integer.bitCount(u) << 5)) & (q - 1));
+  }
+}
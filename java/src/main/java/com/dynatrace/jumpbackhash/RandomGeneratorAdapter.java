@@ -0,0 +1,80 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Adapts a {@link RandomGenerator} of the JDK, such as {@code L64X128MixRandom}, to a {@link
+ * PseudoRandomGenerator}.
+ *
+ * <p>As random generators of the JDK cannot be reseeded, a new instance is created by the given
+ * function whenever {@link #resetWithSeed(long)} is called. Constructor references like {@code
+ * SplittableRandom::new} are cheaper than {@link #of(String)}, which creates the instances
+ * reflectively.
+ */
+public final class RandomGeneratorAdapter implements PseudoRandomGenerator {
+
+  private final LongFunction<? extends RandomGenerator> randomGeneratorFactory;
+  private RandomGenerator randomGenerator;
+
+  /**
+   * Constructor.
+   *
+   * @param randomGeneratorFactory creates a random generator for a given seed
+   */
+  public RandomGeneratorAdapter(LongFunction<? extends RandomGenerator> randomGeneratorFactory) {
+    this.randomGeneratorFactory = requireNonNull(randomGeneratorFactory);
+    this.randomGenerator = randomGeneratorFactory.apply(0);
+  }
+
+  /**
+   * Returns an adapter for the random generator algorithm with the given name.
+   *
+   * @param name the name of the algorithm as accepted by {@link RandomGeneratorFactory#of(String)}
+   * @return the adapter
+   * @throws IllegalArgumentException if the algorithm is not found
+   */
+  public static RandomGeneratorAdapter of(String name) {
+    RandomGeneratorFactory<?> factory = RandomGeneratorFactory.of(name);
+    return new RandomGeneratorAdapter(factory::create);
+  }
+
+  @Override
+  public long nextLong() {
+    return randomGenerator.nextLong();
+  }
+
+  @Override
+  public void resetWithSeed(long seed) {
+    randomGenerator = randomGeneratorFactory.apply(seed);
+  }
+}
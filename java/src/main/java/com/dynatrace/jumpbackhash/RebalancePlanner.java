@@ -0,0 +1,344 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Determines the keys that are moved when the number of buckets is increased.
+ *
+ * <p>The keys are read from a binary file of 64-bit key hashes in little-endian byte order, which
+ * is memory-mapped and processed in parallel. For a monotone bucket mapper, a key is moved when the
+ * number of buckets is increased from {@code n} to {@code n'} if and only if its new bucket index
+ * is greater than or equal to {@code n}. Hence, the old bucket index only needs to be computed for
+ * moved keys.
+ *
+ * <p>For every target bucket that receives keys, a file is written to the output directory, see
+ * {@link #getOutputFile(Path, int)}. It consists of records of {@link #RECORD_SIZE} bytes, each
+ * containing the key hash, the old bucket index, and the new bucket index in little-endian byte
+ * order. The order of records within a file is not specified.
+ */
+public class RebalancePlanner {
+
+  /** The size of an output record in bytes. */
+  public static final int RECORD_SIZE = Long.BYTES + 2 * Integer.BYTES;
+
+  private static final int DEFAULT_LOG2_KEYS_PER_CHUNK = 27; // 1 GB chunks
+  private static final int DEFAULT_KEYS_PER_TASK = 1 << 16;
+  // output files beyond this limit are opened for each write to avoid running out of descriptors
+  private static final int MAX_OPEN_CHANNELS = 256;
+
+  private final Supplier<? extends BucketMapper> bucketMapperSupplier;
+  private final ForkJoinPool pool;
+  private final int log2KeysPerChunk;
+  private final int keysPerTask;
+
+  /**
+   * Constructor.
+   *
+   * @param bucketMapperSupplier supplies monotone bucket mappers, one is used per thread, as bucket
+   *     mappers are not necessarily thread-safe
+   * @param pool the pool used for parallel processing
+   */
+  public RebalancePlanner(
+      Supplier<? extends BucketMapper> bucketMapperSupplier, ForkJoinPool pool) {
+    this(bucketMapperSupplier, pool, DEFAULT_LOG2_KEYS_PER_CHUNK, DEFAULT_KEYS_PER_TASK);
+  }
+
+  RebalancePlanner(
+      Supplier<? extends BucketMapper> bucketMapperSupplier,
+      ForkJoinPool pool,
+      int log2KeysPerChunk,
+      int keysPerTask) {
+    this.bucketMapperSupplier = requireNonNull(bucketMapperSupplier);
+    this.pool = requireNonNull(pool);
+    this.log2KeysPerChunk = log2KeysPerChunk;
+    this.keysPerTask = keysPerTask;
+  }
+
+  /**
+   * Returns the path of the output file for the given target bucket.
+   *
+   * @param outputDirectory the output directory
+   * @param bucket the target bucket index
+   * @return the path of the output file
+   */
+  public static Path getOutputFile(Path outputDirectory, int bucket) {
+    return outputDirectory.resolve("bucket-" + bucket + ".bin");
+  }
+
+  /**
+   * Writes all keys of the given key file that are moved when the number of buckets is increased
+   * from {@code oldNumBuckets} to {@code newNumBuckets} to per-target files in the given output
+   * directory. Output files of earlier plans are deleted from the output directory beforehand, so
+   * that it only contains the output files of this plan afterwards. If processing fails, the
+   * exception is only thrown after all parallel tasks have stopped.
+   *
+   * @param keyFile the file of 64-bit key hashes in little-endian byte order
+   * @param oldNumBuckets the old number of buckets, must be positive
+   * @param newNumBuckets the new number of buckets, must not be smaller than {@code oldNumBuckets}
+   * @param outputDirectory the existing directory to which the output files are written
+   * @return the number of moved keys
+   * @throws IOException if an I/O error occurs
+   * @throws IllegalArgumentException if the numbers of buckets are invalid or the size of the key
+   *     file is not a multiple of 8
+   */
+  public long plan(Path keyFile, int oldNumBuckets, int newNumBuckets, Path outputDirectory)
+      throws IOException {
+    if (oldNumBuckets < 1 || newNumBuckets < oldNumBuckets) {
+      throw new IllegalArgumentException("invalid numbers of buckets");
+    }
+    requireNonNull(outputDirectory);
+    try (FileChannel keyChannel = FileChannel.open(keyFile, StandardOpenOption.READ)) {
+      long fileSize = keyChannel.size();
+      if (fileSize % Long.BYTES != 0) {
+        throw new IllegalArgumentException("size of key file is not a multiple of 8");
+      }
+      deleteOutputFiles(outputDirectory);
+      long numKeys = fileSize / Long.BYTES;
+      long keysPerChunk = 1L << log2KeysPerChunk;
+      ByteBuffer[] chunks =
+          new ByteBuffer[(int) ((numKeys + keysPerChunk - 1) >>> log2KeysPerChunk)];
+      for (int i = 0; i < chunks.length; ++i) {
+        long position = i * keysPerChunk * Long.BYTES;
+        long size = Math.min(keysPerChunk * Long.BYTES, fileSize - position);
+        chunks[i] =
+            keyChannel
+                .map(FileChannel.MapMode.READ_ONLY, position, size)
+                .order(ByteOrder.LITTLE_ENDIAN);
+      }
+      Plan plan =
+          new Plan(
+              chunks,
+              oldNumBuckets,
+              newNumBuckets,
+              outputDirectory,
+              ThreadLocal.withInitial(bucketMapperSupplier));
+      try {
+        pool.invoke(plan.new Task(0, numKeys));
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      } finally {
+        plan.close();
+      }
+      return plan.numMovedKeys.get();
+    }
+  }
+
+  // only deletes regular files, as output files are never created as anything else
+  private static void deleteOutputFiles(Path outputDirectory) throws IOException {
+    try (DirectoryStream<Path> files =
+        Files.newDirectoryStream(outputDirectory, "bucket-[0-9]*.bin")) {
+      for (Path file : files) {
+        if (Files.isRegularFile(file, LinkOption.NOFOLLOW_LINKS)) Files.delete(file);
+      }
+    }
+  }
+
+  private final class Plan {
+
+    private final ByteBuffer[] chunks;
+    private final int oldNumBuckets;
+    private final int newNumBuckets;
+    private final Path outputDirectory;
+    private final ThreadLocal<BucketMapper> bucketMappers;
+    private final Map<Integer, Target> targets = new ConcurrentHashMap<>();
+    private final AtomicLong numMovedKeys = new AtomicLong();
+    private final AtomicInteger numOpenChannels = new AtomicInteger();
+    private volatile boolean aborted; // set if a task failed, lets remaining tasks stop early
+
+    private Plan(
+        ByteBuffer[] chunks,
+        int oldNumBuckets,
+        int newNumBuckets,
+        Path outputDirectory,
+        ThreadLocal<BucketMapper> bucketMappers) {
+      this.chunks = chunks;
+      this.oldNumBuckets = oldNumBuckets;
+      this.newNumBuckets = newNumBuckets;
+      this.outputDirectory = outputDirectory;
+      this.bucketMappers = bucketMappers;
+    }
+
+    private long getKey(long index) {
+      ByteBuffer chunk = chunks[(int) (index >>> log2KeysPerChunk)];
+      return chunk.getLong((int) (index & ((1L << log2KeysPerChunk) - 1)) * Long.BYTES);
+    }
+
+    private Target getTarget(int bucket) {
+      return targets.computeIfAbsent(bucket, this::createTarget);
+    }
+
+    // creates or truncates the output file, which is kept open if the limit is not yet reached
+    private Target createTarget(int bucket) {
+      Path path = getOutputFile(outputDirectory, bucket);
+      try {
+        FileChannel channel =
+            FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        if (numOpenChannels.incrementAndGet() > MAX_OPEN_CHANNELS) {
+          channel.close();
+          channel = null;
+        }
+        return new Target(path, channel);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    private void close() throws IOException {
+      for (Target target : targets.values()) {
+        if (target.channel != null) target.channel.close();
+      }
+    }
+
+    private final class Task extends RecursiveAction {
+
+      private static final long serialVersionUID = 1L;
+
+      private final long fromIndex;
+      private final long toIndex;
+
+      private Task(long fromIndex, long toIndex) {
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+      }
+
+      @Override
+      protected void compute() {
+        if (aborted) return;
+        if (toIndex - fromIndex > keysPerTask) {
+          long midIndex = (fromIndex + toIndex) >>> 1;
+          Task left = new Task(fromIndex, midIndex);
+          Task right = new Task(midIndex, toIndex);
+          // unlike invokeAll, waits for both subtasks even if one fails, as the output files are
+          // closed as soon as the root task completes
+          right.fork();
+          left.quietlyInvoke();
+          right.quietlyJoin();
+          left.join();
+          right.join();
+          return;
+        }
+        try {
+          process();
+        } catch (RuntimeException | Error e) {
+          aborted = true;
+          throw e;
+        }
+      }
+
+      private void process() {
+        BucketMapper bucketMapper = bucketMappers.get();
+        // collect moved keys, sorted by target bucket with their index in the lower bits
+        long[] movers = new long[(int) (toIndex - fromIndex)];
+        int numMovers = 0;
+        for (long i = fromIndex; i < toIndex; ++i) {
+          int newBucket = bucketMapper.getBucket(getKey(i), newNumBuckets);
+          if (newBucket >= oldNumBuckets) {
+            movers[numMovers++] = ((long) newBucket << 32) | (i - fromIndex);
+          }
+        }
+        Arrays.sort(movers, 0, numMovers);
+        ByteBuffer buffer =
+            ByteBuffer.allocate(numMovers * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        int runStart = 0;
+        while (runStart < numMovers) {
+          int newBucket = (int) (movers[runStart] >>> 32);
+          int runEnd = runStart;
+          buffer.clear();
+          while (runEnd < numMovers && (int) (movers[runEnd] >>> 32) == newBucket) {
+            long key = getKey(fromIndex + (int) movers[runEnd]);
+            buffer.putLong(key);
+            buffer.putInt(bucketMapper.getBucket(key, oldNumBuckets));
+            buffer.putInt(newBucket);
+            runEnd += 1;
+          }
+          buffer.flip();
+          getTarget(newBucket).write(buffer);
+          runStart = runEnd;
+        }
+        numMovedKeys.addAndGet(numMovers);
+      }
+    }
+  }
+
+  private static final class Target {
+
+    private final Path path;
+    private final FileChannel channel; // null if the file is opened for each write
+    private final AtomicLong size = new AtomicLong();
+
+    private Target(Path path, FileChannel channel) {
+      this.path = path;
+      this.channel = channel;
+    }
+
+    // reserves a region of the file, so that concurrent writes do not interfere
+    private void write(ByteBuffer buffer) {
+      long position = size.getAndAdd(buffer.remaining());
+      try {
+        if (channel != null) {
+          write(channel, buffer, position);
+        } else {
+          try (FileChannel c = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            write(c, buffer, position);
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer, long position)
+        throws IOException {
+      while (buffer.hasRemaining()) position += channel.write(buffer, position);
+    }
+  }
+}
@@ -0,0 +1,221 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Rendezvous or highest random weight (HRW) hashing as described in Thaler and Ravishankar, "Using
+ * Name-Based Mappings to Increase Hit Rates", IEEE/ACM Transactions on Networking, 1998.
+ *
+ * <p>Each bucket gets a pseudo-random score for the given hash, and the bucket with the highest
+ * score is chosen, with ties resolved in favor of the smaller bucket index. The scores are the
+ * values of a SplitMix64 sequence seeded with the hash, which are computed for several buckets at
+ * once using the Vector API. The mapping is monotone and uniform, but its time complexity is linear
+ * in the number of buckets.
+ *
+ * <p>Weights are supported using the logarithmic method described in Schindelhauer and Schomaker,
+ * "Weighted Distributed Hash Tables", SPAA 2005. The score of a bucket with weight {@code w} and
+ * uniform random value {@code u} is {@code -w / ln(u)}, which chooses each bucket with probability
+ * proportional to its weight. As the logarithm is costly, it is only evaluated for buckets whose
+ * score may exceed the maximum score so far according to a cheap upper bound.
+ *
+ * <p>Instances are thread-safe.
+ */
+public class RendezvousHash implements BucketMapper {
+
+  private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+
+  // species for doubles with the same number of lanes as LONG_SPECIES
+  private static final VectorSpecies<Double> DOUBLE_SPECIES =
+      VectorSpecies.of(double.class, LONG_SPECIES.vectorShape());
+
+  private static final int LANES = LONG_SPECIES.length();
+
+  // lane j holds (j + 1) * GOLDEN_GAMMA, which gives the state for bucket j when added to the hash
+  private static final LongVector STATE_OFFSETS =
+      LongVector.zero(LONG_SPECIES).addIndex(1).add(1).mul(SplitMix64V1.GOLDEN_GAMMA);
+
+  private static final LongVector LANE_INDICES = LongVector.zero(LONG_SPECIES).addIndex(1);
+
+  private static final double SCORE_BOUND_FACTOR = 1. + 0x1p-40;
+
+  // returns the score of the given bucket, nonnegative to allow signed comparisons
+  static long score(long hash, int bucket) {
+    return SplitMix64V1.mix(hash + (bucket + 1L) * SplitMix64V1.GOLDEN_GAMMA) >>> 1;
+  }
+
+  private static LongVector mix(LongVector z) {
+    z =
+        z.lanewise(VectorOperators.XOR, z.lanewise(VectorOperators.LSHR, 30))
+            .mul(0xbf58476d1ce4e5b9L);
+    z =
+        z.lanewise(VectorOperators.XOR, z.lanewise(VectorOperators.LSHR, 27))
+            .mul(0x94d049bb133111ebL);
+    return z.lanewise(VectorOperators.XOR, z.lanewise(VectorOperators.LSHR, 31));
+  }
+
+  @Override
+  public int getBucket(long hash, int numBuckets) {
+    int bucket = 0;
+    long maxScore = -1;
+    int i = 0;
+    int end = LONG_SPECIES.loopBound(numBuckets);
+    if (end > 0) {
+      LongVector state = STATE_OFFSETS.add(hash);
+      LongVector step = LongVector.broadcast(LONG_SPECIES, LANES * SplitMix64V1.GOLDEN_GAMMA);
+      LongVector index = LANE_INDICES;
+      LongVector maxScores = LongVector.broadcast(LONG_SPECIES, -1);
+      LongVector maxIndices = LongVector.zero(LONG_SPECIES);
+      for (; i < end; i += LANES) {
+        LongVector score = mix(state).lanewise(VectorOperators.LSHR, 1);
+        VectorMask<Long> greater = score.compare(VectorOperators.GT, maxScores);
+        maxScores = maxScores.blend(score, greater);
+        maxIndices = maxIndices.blend(index, greater);
+        state = state.add(step);
+        index = index.add(LANES);
+      }
+      // the smallest index with the highest score over all lanes
+      maxScore = maxScores.reduceLanes(VectorOperators.MAX);
+      bucket =
+          (int)
+              maxIndices
+                  .blend(Long.MAX_VALUE, maxScores.compare(VectorOperators.NE, maxScore))
+                  .reduceLanes(VectorOperators.MIN);
+    }
+    for (; i < numBuckets; ++i) {
+      long score = score(hash, i);
+      if (score > maxScore) {
+        maxScore = score;
+        bucket = i;
+      }
+    }
+    return bucket;
+  }
+
+  // returns a uniform random value from the open interval (0, 1)
+  private static double toUniform(long randomValue) {
+    return ((randomValue >>> 11) + 0.5) * 0x1p-53;
+  }
+
+  /**
+   * Returns a bucket index chosen with probability proportional to the given weights.
+   *
+   * <p>When the weight of a bucket is increased, keys only move to this bucket, and when it is
+   * decreased, keys only move away from it.
+   *
+   * @param hash a 64-bit hash value
+   * @param weights the nonnegative weights of the buckets, at least one must be positive, its
+   *     length defines the number of buckets
+   * @return the bucket index
+   */
+  public int getBucket(long hash, double[] weights) {
+    int numBuckets = weights.length;
+    int bucket = 0;
+    double maxScore = -1;
+    int i = 0;
+    int end = LONG_SPECIES.loopBound(numBuckets);
+    if (end > 0) {
+      LongVector state = STATE_OFFSETS.add(hash);
+      LongVector step = LongVector.broadcast(LONG_SPECIES, LANES * SplitMix64V1.GOLDEN_GAMMA);
+      for (; i < end; i += LANES) {
+        DoubleVector u =
+            ((DoubleVector)
+                    mix(state).lanewise(VectorOperators.LSHR, 11).convert(VectorOperators.L2D, 0))
+                .add(0.5)
+                .mul(0x1p-53);
+        // as -ln(u) >= 1 - u, w / (1 - u) is an upper bound of the score, which is enlarged to
+        // account for rounding errors
+        DoubleVector bound =
+            DoubleVector.fromArray(DOUBLE_SPECIES, weights, i)
+                .div(u.neg().add(1.))
+                .mul(SCORE_BOUND_FACTOR);
+        VectorMask<Double> candidates = bound.compare(VectorOperators.GT, maxScore);
+        // the logarithm is only needed for the few buckets that may exceed the maximum score
+        for (long lanes = candidates.toLong(); lanes != 0; lanes &= lanes - 1) {
+          int j = Long.numberOfTrailingZeros(lanes);
+          double score = weights[i + j] / -StrictMath.log(u.lane(j));
+          if (score > maxScore) {
+            maxScore = score;
+            bucket = i + j;
+          }
+        }
+        state = state.add(step);
+      }
+    }
+    for (; i < numBuckets; ++i) {
+      double score =
+          weights[i]
+              / -StrictMath.log(
+                  toUniform(SplitMix64V1.mix(hash + (i + 1L) * SplitMix64V1.GOLDEN_GAMMA)));
+      if (score > maxScore) {
+        maxScore = score;
+        bucket = i;
+      }
+    }
+    return bucket;
+  }
+
+  /**
+   * Returns the buckets with the highest scores in descending order of their scores.
+   *
+   * <p>In contrast to the default implementation, the result is the set of the top-scored buckets
+   * as usual for rendezvous hashing. If {@code numBuckets} is incremented, the returned bucket
+   * indices only change if the new bucket is among them. This method does not allocate any memory
+   * and its time complexity is linear in {@code numBuckets}.
+   *
+   * @param hash a 64-bit hash value
+   * @param numBuckets the number of buckets, must be positive
+   * @param buckets the array to which the distinct bucket indices are written, its length defines
+   *     the number of requested bucket indices
+   * @throws IllegalArgumentException if more bucket indices are requested than there are buckets
+   */
+  @Override
+  public void getDistinctBuckets(long hash, int numBuckets, int[] buckets) {
+    int numDistinctBuckets = buckets.length;
+    if (numDistinctBuckets > numBuckets) {
+      throw new IllegalArgumentException("number of requested buckets exceeds number of buckets");
+    }
+    if (numDistinctBuckets == 0) return;
+    int count = 0;
+    for (int b = 0; b < numBuckets; ++b) {
+      long score = score(hash, b);
+      // find the insertion position, equal scores are kept in the order of their indices
+      int j = count;
+      while (j > 0 && score > score(hash, buckets[j - 1])) --j;
+      if (j == numDistinctBuckets) continue;
+      int end = Math.min(count, numDistinctBuckets - 1);
+      System.arraycopy(buckets, j, buckets, j + 1, end - j);
+      buckets[j] = b;
+      count = end + 1;
+    }
+  }
+}
@@ -28,12 +28,18 @@ package com.dynatrace.jumpbackhash;
 
 final class SplitMix64V1 implements PseudoRandomGenerator {
 
+  static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
   private long state;
 
   @Override
   public long nextLong() {
-    state += 0x9e3779b97f4a7c15L;
-    long z = state;
+    state += GOLDEN_GAMMA;
+    return mix(state);
+  }
+
+  // returns the random value for the given state, which allows keeping the state in local variables
+  static long mix(long z) {
     z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
     z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
     return z ^ (z >>> 31);
@@ -0,0 +1,132 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A consistent mapping of hash values to buckets with individual weights built on JumpBackHash.
+ *
+ * <p>The mapping uses rejection sampling. For each attempt a bucket is chosen uniformly using
+ * JumpBackHash, and it is accepted with a probability proportional to its weight. Otherwise, the
+ * next attempt is made. Hence, the probability that a key is mapped to some bucket is proportional
+ * to its weight. The random values of each attempt are independent of the number of buckets and the
+ * weights, which has the following consequences:
+ *
+ * <ul>
+ *   <li>If the weight of a bucket is decreased, keys are only moved away from this bucket.
+ *   <li>If the weight of a bucket is increased, keys are only moved to this bucket.
+ *   <li>If a bucket is appended, keys are only moved to the new bucket.
+ * </ul>
+ *
+ * <p>The last property requires that the last bucket has maximum weight. Otherwise, a key that
+ * would be moved to the new last bucket could be rejected there and end up in another existing
+ * bucket. Therefore, an {@link IllegalArgumentException} is thrown if the last bucket has less than
+ * maximum weight. The weight of a bucket can only be decreased after another bucket has been
+ * appended.
+ *
+ * <p>Buckets with maximum weight are accepted without any further computation, in particular, if
+ * all buckets have maximum weight, the mapping is equivalent to {@link JumpBackHash} and has the
+ * same costs. In general, the expected number of attempts is given by the maximum weight multiplied
+ * by the number of buckets and divided by the sum of all weights.
+ */
+public class WeightedJumpBackHash {
+
+  private static final long ATTEMPT_SEED_MODIFIER = 0x3c5f8e1b7a2d9046L;
+
+  private final PseudoRandomGenerator randomGenerator;
+  private final JumpBackHash jumpBackHash;
+
+  public WeightedJumpBackHash(PseudoRandomGenerator pseudoRandomGenerator) {
+    this.randomGenerator = requireNonNull(pseudoRandomGenerator);
+    this.jumpBackHash = new JumpBackHash(pseudoRandomGenerator);
+  }
+
+  /**
+   * Returns a bucket index in the range {@code [0, numBuckets)} based on the given hash value. The
+   * probability that a bucket is returned is proportional to its weight.
+   *
+   * @param hash a 64-bit hash value
+   * @param numBuckets the number of buckets, must be positive
+   * @param weights the bucket weights, all weights must be in the range {@code [0, maxWeight]}, the
+   *     weight of the last bucket must be {@code maxWeight}
+   * @param maxWeight the maximum weight, must be positive, all weights are defined relative to it
+   * @return the bucket index
+   * @throws IllegalArgumentException if the last bucket has less than maximum weight
+   */
+  public int getBucket(long hash, int numBuckets, int[] weights, int maxWeight) {
+    if (weights[numBuckets - 1] < maxWeight) {
+      throw new IllegalArgumentException("last bucket must have maximum weight");
+    }
+    long s = hash;
+    while (true) {
+      int b = jumpBackHash.getBucket(s, numBuckets);
+      int w = weights[b];
+      if (w >= maxWeight) return b;
+      long r = nextAttempt(s);
+      // accept with probability w / maxWeight
+      if ((int) (((r >>> 32) * maxWeight) >>> 32) < w) return b;
+      s = randomGenerator.nextLong();
+    }
+  }
+
+  /**
+   * Returns a bucket index in the range {@code [0, numBuckets)} based on the given hash value. The
+   * probability that a bucket is returned is proportional to its weight.
+   *
+   * @param hash a 64-bit hash value
+   * @param numBuckets the number of buckets, must be positive
+   * @param weights the bucket weights, all weights must be in the range {@code [0, 1]}, the weight
+   *     of the last bucket must be 1
+   * @return the bucket index
+   * @throws IllegalArgumentException if the last bucket has less than maximum weight
+   */
+  public int getBucket(long hash, int numBuckets, double[] weights) {
+    if (weights[numBuckets - 1] < 1.) {
+      throw new IllegalArgumentException("last bucket must have maximum weight");
+    }
+    long s = hash;
+    while (true) {
+      int b = jumpBackHash.getBucket(s, numBuckets);
+      double w = weights[b];
+      if (w >= 1.) return b;
+      long r = nextAttempt(s);
+      // accept with probability w
+      if ((r >>> 11) * 0x1.0p-53 < w) return b;
+      s = randomGenerator.nextLong();
+    }
+  }
+
+  // Returns the random value for the acceptance test of the attempt with the given seed. The seed
+  // of the next attempt is given by the subsequent random value. Both are drawn from a different
+  // sequence than the one used by JumpBackHash, as the latter consumes a varying number of random
+  // values depending on the number of buckets.
+  private long nextAttempt(long s) {
+    randomGenerator.resetWithSeed(s ^ ATTEMPT_SEED_MODIFIER);
+    return randomGenerator.nextLong();
+  }
+}
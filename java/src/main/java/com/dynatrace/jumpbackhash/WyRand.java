@@ -0,0 +1,54 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+// the wyrand pseudo-random generator by Wang Yi
+// see https://github.com/wangyi-fudan/wyhash
+final class WyRand implements PseudoRandomGenerator {
+
+  static final long INCREMENT = 0xa0761d6478bd642fL;
+  private static final long MIX_CONSTANT = 0xe7037ed1a0b428dbL;
+
+  private long state;
+
+  @Override
+  public long nextLong() {
+    state += INCREMENT;
+    return mix(state);
+  }
+
+  // returns the random value for the given state, which allows keeping the state in local variables
+  static long mix(long s) {
+    long y = s ^ MIX_CONSTANT;
+    return (s * y) ^ Math.unsignedMultiplyHigh(s, y);
+  }
+
+  @Override
+  public void resetWithSeed(long seed) {
+    this.state = seed;
+  }
+}
@@ -0,0 +1,53 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+// the xoroshiro128++ pseudo-random generator by David Blackman and Sebastiano Vigna
+// see https://prng.di.unimi.it/xoroshiro128plusplus.c
+final class Xoroshiro128PlusPlus implements PseudoRandomGenerator {
+
+  private long state0;
+  private long state1;
+
+  @Override
+  public long nextLong() {
+    long s0 = state0;
+    long s1 = state1;
+    long result = Long.rotateLeft(s0 + s1, 17) + s0;
+    s1 ^= s0;
+    state0 = Long.rotateLeft(s0, 49) ^ s1 ^ (s1 << 21);
+    state1 = Long.rotateLeft(s1, 28);
+    return result;
+  }
+
+  // initializes the state with the first two values of SplitMix64, as recommended by the authors
+  @Override
+  public void resetWithSeed(long seed) {
+    this.state0 = SplitMix64V1.mix(seed + SplitMix64V1.GOLDEN_GAMMA);
+    this.state1 = SplitMix64V1.mix(seed + 2 * SplitMix64V1.GOLDEN_GAMMA);
+  }
+}
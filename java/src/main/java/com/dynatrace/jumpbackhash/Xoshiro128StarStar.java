@@ -0,0 +1,69 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+// the xoshiro128** pseudo-random generator by David Blackman and Sebastiano Vigna, which
+// natively generates 32-bit values, a 64-bit value is composed of two consecutive 32-bit values
+// starting with the lower half
+// see https://prng.di.unimi.it/xoshiro128starstar.c
+final class Xoshiro128StarStar implements PseudoRandomGenerator {
+
+  private int state0;
+  private int state1;
+  private int state2;
+  private int state3;
+
+  @Override
+  public int nextInt() {
+    int result = Integer.rotateLeft(state1 * 5, 7) * 9;
+    int t = state1 << 9;
+    state2 ^= state0;
+    state3 ^= state1;
+    state1 ^= state2;
+    state0 ^= state3;
+    state2 ^= t;
+    state3 = Integer.rotateLeft(state3, 11);
+    return result;
+  }
+
+  @Override
+  public long nextLong() {
+    return (nextInt() & 0xFFFFFFFFL) | ((long) nextInt() << 32);
+  }
+
+  // initializes the state with the first two values of SplitMix64 as Xoroshiro128PlusPlus, which
+  // cannot be both zero
+  @Override
+  public void resetWithSeed(long seed) {
+    long s01 = SplitMix64V1.mix(seed + SplitMix64V1.GOLDEN_GAMMA);
+    long s23 = SplitMix64V1.mix(seed + 2 * SplitMix64V1.GOLDEN_GAMMA);
+    this.state0 = (int) s01;
+    this.state1 = (int) (s01 >>> 32);
+    this.state2 = (int) s23;
+    this.state3 = (int) (s23 >>> 32);
+  }
+}
@@ -0,0 +1,96 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.random.RandomGenerator;
+import org.hipparchus.stat.inference.GTest;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+// BinomialHash is not exactly uniform due to its bounded number of retries, which the G-tests of
+// UniformityTest detect for numbers of buckets slightly above powers of two. Instead, the bucket
+// frequencies are tested against their exact non-uniform distribution.
+class BinomialHashTest
+    implements ChecksumTest,
+        MonotonicityTest,
+        DisruptionTest,
+        GetBucketsTest,
+        ForBucketsTest,
+        DistinctBucketsTest {
+
+  private static final BucketMapper MAPPER = new BinomialHash(new SplitMix64V1());
+
+  @Override
+  public BucketMapper getBucketMapper() {
+    return MAPPER;
+  }
+
+  @Override
+  public int mapKeyToBucketIndex(long key, int numBuckets) {
+    return MAPPER.getBucket(key, numBuckets);
+  }
+
+  @Override
+  public long getCheckSum() {
+    return 0xc53022c457fc1e25L;
+  }
+
+  @Override
+  public double getMaxDisruptionRatio(int numBuckets) {
+    return 1.1;
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {2, 3, 5, 17, 18, 34, 100, 135, 1000})
+  void testDistribution(int numBuckets) {
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x5b2e8d1a4f7c3096L + numBuckets);
+    long[] counts = new long[numBuckets];
+    for (int i = 0; i < 1_000_000; ++i) {
+      counts[MAPPER.getBucket(randomGenerator.nextLong(), numBuckets)] += 1;
+    }
+
+    int m = Integer.highestOneBit(numBuckets - 1) << 1;
+    int numLowerBuckets = m / 2;
+    double continueProbability = (m - numBuckets) / (double) m;
+    // probability that a retry sequence ends in a given upper bucket
+    double retryProbability = 0;
+    for (int i = 0; i < 4; ++i) retryProbability += Math.pow(continueProbability, i) / m;
+    double fallbackProbability = 1. - (numBuckets - numLowerBuckets) * retryProbability;
+    double[] expected = new double[numBuckets];
+    for (int b = 0; b < numBuckets; ++b) {
+      expected[b] =
+          1. / m
+              + continueProbability
+                  * ((b < numLowerBuckets)
+                      ? fallbackProbability / numLowerBuckets
+                      : retryProbability);
+    }
+    assertThat(new GTest().gTest(expected, counts)).isGreaterThan(0.001);
+  }
+}
@@ -0,0 +1,185 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class BucketPartitionerTest {
+
+  private static BucketMapper createMapper() {
+    return new JumpBackHash(new SplitMix64V1());
+  }
+
+  private static BucketPartitioner createPartitioner(boolean parallel) {
+    if (parallel) {
+      // parallelize even the smallest inputs
+      return new BucketPartitioner(
+          BucketPartitionerTest::createMapper, ForkJoinPool.commonPool(), 0);
+    } else {
+      return new BucketPartitioner(BucketPartitionerTest::createMapper);
+    }
+  }
+
+  private static void assertPartitioned(
+      long[] keys, int numBuckets, long[] partitionedKeys, int[] offsets) {
+    BucketMapper mapper = createMapper();
+    assertThat(offsets).hasSize(numBuckets + 1);
+    assertThat(offsets[0]).isZero();
+    assertThat(offsets[numBuckets]).isEqualTo(keys.length);
+    int[] expectedOffsets = new int[numBuckets + 1];
+    long[] expectedKeys = new long[keys.length];
+    int position = 0;
+    int[] buckets = new int[keys.length];
+    mapper.getBuckets(keys, numBuckets, buckets);
+    int[] counts = new int[numBuckets];
+    for (int bucket : buckets) counts[bucket] += 1;
+    int[] cursor = new int[numBuckets];
+    for (int bucket = 0; bucket < numBuckets; ++bucket) {
+      expectedOffsets[bucket] = position;
+      cursor[bucket] = position;
+      position += counts[bucket];
+    }
+    expectedOffsets[numBuckets] = position;
+    // the partitioning is stable
+    for (int i = 0; i < keys.length; ++i) expectedKeys[cursor[buckets[i]]++] = keys[i];
+    assertThat(offsets).isEqualTo(expectedOffsets);
+    assertThat(partitionedKeys).isEqualTo(expectedKeys);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "0,1,false",
+    "0,1,true",
+    "1,1,false",
+    "1000,1,false",
+    "1000,7,false",
+    "1000,7,true",
+    "1000,5000,false",
+    "100000,2048,false",
+    "100000,2049,false",
+    "100000,2049,true",
+    "100000,65536,false",
+    "100000,65536,true",
+    "100000,20000,true",
+    "3000,1000000,false",
+    "3000,1000000,true"
+  })
+  void testPartition(int numKeys, int numBuckets, boolean parallel) {
+    RandomGenerator randomGenerator = BaseTest.RANDOM_FACTORY.create(0x6e2b9d4a1f7c3058L + numKeys);
+    long[] keys = randomGenerator.longs(numKeys).toArray();
+    long[] originalKeys = keys.clone();
+    long[] partitionedKeys = new long[numKeys];
+
+    int[] offsets = createPartitioner(parallel).partition(keys, numBuckets, partitionedKeys);
+
+    assertThat(keys).isEqualTo(originalKeys);
+    assertPartitioned(keys, numBuckets, partitionedKeys, offsets);
+  }
+
+  @ParameterizedTest
+  @CsvSource({"1000,7,false", "1000,7,true", "100000,65536,false", "100000,65536,true"})
+  void testPartitionWithIntPayload(int numKeys, int numBuckets, boolean parallel) {
+    RandomGenerator randomGenerator = BaseTest.RANDOM_FACTORY.create(0x2d8f5a1e7b3c9064L);
+    long[] keys = randomGenerator.longs(numKeys).toArray();
+    int[] payload = new int[numKeys];
+    for (int i = 0; i < numKeys; ++i) payload[i] = i;
+    long[] partitionedKeys = new long[numKeys];
+    int[] partitionedPayload = new int[numKeys];
+
+    int[] offsets =
+        createPartitioner(parallel)
+            .partition(keys, payload, numBuckets, partitionedKeys, partitionedPayload);
+
+    assertPartitioned(keys, numBuckets, partitionedKeys, offsets);
+    for (int i = 0; i < numKeys; ++i) {
+      assertThat(keys[partitionedPayload[i]]).isEqualTo(partitionedKeys[i]);
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource({"1000,7,false", "1000,7,true", "100000,65536,false", "100000,65536,true"})
+  void testPartitionWithLongPayload(int numKeys, int numBuckets, boolean parallel) {
+    RandomGenerator randomGenerator = BaseTest.RANDOM_FACTORY.create(0x7c1a4e9b3d5f2086L);
+    long[] keys = randomGenerator.longs(numKeys).toArray();
+    long[] payload = new long[numKeys];
+    for (int i = 0; i < numKeys; ++i) payload[i] = ~keys[i];
+    long[] partitionedKeys = new long[numKeys];
+    long[] partitionedPayload = new long[numKeys];
+
+    int[] offsets =
+        createPartitioner(parallel)
+            .partition(keys, payload, numBuckets, partitionedKeys, partitionedPayload);
+
+    assertPartitioned(keys, numBuckets, partitionedKeys, offsets);
+    for (int i = 0; i < numKeys; ++i) {
+      assertThat(partitionedPayload[i]).isEqualTo(~partitionedKeys[i]);
+    }
+  }
+
+  @Test
+  void testDefaultParallelConfiguration() {
+    RandomGenerator randomGenerator = BaseTest.RANDOM_FACTORY.create(0x4f9c2e7a1b8d3065L);
+    long[] keys = randomGenerator.longs(1 << 19).toArray();
+    long[] partitionedKeys = new long[keys.length];
+    BucketPartitioner partitioner =
+        new BucketPartitioner(BucketPartitionerTest::createMapper, ForkJoinPool.commonPool());
+
+    int[] offsets = partitioner.partition(keys, 1000, partitionedKeys);
+
+    assertPartitioned(keys, 1000, partitionedKeys, offsets);
+
+    // small inputs are partitioned sequentially
+    long[] fewKeys = randomGenerator.longs(1000).toArray();
+    long[] partitionedFewKeys = new long[fewKeys.length];
+    int[] fewOffsets = partitioner.partition(fewKeys, 1000, partitionedFewKeys);
+    assertPartitioned(fewKeys, 1000, partitionedFewKeys, fewOffsets);
+  }
+
+  @Test
+  void testIllegalArguments() {
+    BucketPartitioner partitioner = createPartitioner(false);
+    long[] keys = new long[10];
+    assertThatIllegalArgumentException().isThrownBy(() -> partitioner.partition(keys, 0, keys));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> partitioner.partition(keys, 1, new long[9]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> partitioner.partition(keys, new int[11], 1, keys, new int[10]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> partitioner.partition(keys, new long[10], 1, keys, new long[9]));
+    assertThatNullPointerException().isThrownBy(() -> new BucketPartitioner(null));
+    assertThatNullPointerException()
+        .isThrownBy(() -> new BucketPartitioner(BucketPartitionerTest::createMapper, null));
+  }
+}
@@ -39,15 +39,20 @@ interface ChecksumTest extends BaseTest {
 
   @Test
   default void testCheckSum() {
+    assertThat(computeCheckSum(this::mapKeyToBucketIndex)).isEqualTo(getCheckSum());
+  }
+
+  // hashes the bucket indices of 1M pseudo-random pairs of hash value and number of buckets
+  static long computeCheckSum(BucketMapper mapper) {
     int numIterations = 1_000_000;
     SplittableRandom random = new SplittableRandom(0x0a55871a9d9103b7L);
     HashStream64 checkSumHashStream = Hashing.komihash5_0().hashStream();
     for (int i = 0; i < numIterations; ++i) {
       int numBuckets = Math.max(1, random.nextInt() >>> 1 >>> random.nextInt());
       long hash = random.nextLong();
-      int bucketIdx = mapKeyToBucketIndex(hash, numBuckets);
+      int bucketIdx = mapper.getBucket(hash, numBuckets);
       checkSumHashStream.putInt(bucketIdx);
     }
-    assertThat(checkSumHashStream.getAsLong()).isEqualTo(getCheckSum());
+    return checkSumHashStream.getAsLong();
   }
 }
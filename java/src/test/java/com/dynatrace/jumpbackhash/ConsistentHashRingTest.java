@@ -0,0 +1,165 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.TreeMap;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ConsistentHashRingTest implements DisruptionTest {
+
+  // many virtual nodes to keep the load of the added bucket close to its expected value
+  private static final ConsistentHashRing MAPPER = new ConsistentHashRing(1000);
+
+  @Override
+  public int mapKeyToBucketIndex(long key, int numBuckets) {
+    return MAPPER.getBucket(key, numBuckets);
+  }
+
+  @Override
+  public double getMaxDisruptionRatio(int numBuckets) {
+    return 1.1;
+  }
+
+  @Test
+  void testMonotonicity() {
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x2a6f9c1e5b3d8047L);
+    long[] keys = randomGenerator.longs(10_000).toArray();
+    ConsistentHashRing mapper = new ConsistentHashRing(10);
+    int[] oldBuckets = new int[keys.length];
+    int[] newBuckets = new int[keys.length];
+    mapper.getBuckets(keys, 1, oldBuckets);
+    assertThat(oldBuckets).containsOnly(0);
+    for (int numBuckets = 2; numBuckets <= 1000; ++numBuckets) {
+      mapper.getBuckets(keys, numBuckets, newBuckets);
+      for (int i = 0; i < keys.length; ++i) {
+        if (oldBuckets[i] != newBuckets[i]) {
+          assertThat(newBuckets[i]).isEqualTo(numBuckets - 1);
+          oldBuckets[i] = newBuckets[i];
+        }
+      }
+    }
+  }
+
+  @Test
+  void testIncrementalRebuild() {
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x7e3b1a9d5c2f4068L);
+    long[] keys = randomGenerator.longs(1000).toArray();
+    int[] numBucketsSequence = {100, 101, 100, 50, 51, 200, 3, 3, 1, 1000};
+    ConsistentHashRing mapper = new ConsistentHashRing(20);
+    for (int numBuckets : numBucketsSequence) {
+      ConsistentHashRing newMapper = new ConsistentHashRing(20);
+      for (long key : keys) {
+        assertThat(mapper.getBucket(key, numBuckets))
+            .isEqualTo(newMapper.getBucket(key, numBuckets));
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 7, 100, 1000})
+  void testLookup(int numBuckets) {
+    int numVirtualNodes = 5;
+    ConsistentHashRing mapper = new ConsistentHashRing(numVirtualNodes);
+    // reference implementation, on equal positions the smaller bucket index wins
+    TreeMap<Long, Integer> ring = new TreeMap<>(Long::compareUnsigned);
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x3c8d2f7a1e9b5064L);
+    for (int b = 0; b < numBuckets; ++b) {
+      long[] positions = new long[numVirtualNodes];
+      createPositions(b, numVirtualNodes, positions);
+      for (long position : positions) ring.putIfAbsent(position, b);
+    }
+    for (int i = 0; i < 10_000; ++i) {
+      long key = randomGenerator.nextLong();
+      Long position = ring.ceilingKey(key & 0xFFFFFFFF00000000L);
+      int expected = ring.get((position != null) ? position : ring.firstKey());
+      assertThat(mapper.getBucket(key, numBuckets)).isEqualTo(expected);
+    }
+  }
+
+  // the ring positions as generated by the ring
+  private static void createPositions(int bucket, int numVirtualNodes, long[] positions) {
+    long state = SplitMix64V1.mix(0x4b1e9d3a7c5f2068L + bucket * SplitMix64V1.GOLDEN_GAMMA);
+    for (int i = 0; i < numVirtualNodes; ++i) {
+      state += SplitMix64V1.GOLDEN_GAMMA;
+      positions[i] = SplitMix64V1.mix(state) & 0xFFFFFFFF00000000L;
+    }
+  }
+
+  @Test
+  void testBalance() {
+    int numBuckets = 10;
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x6d1a8e4c2b7f3095L);
+    long[] counts = new long[numBuckets];
+    for (int i = 0; i < 1_000_000; ++i) {
+      counts[MAPPER.getBucket(randomGenerator.nextLong(), numBuckets)] += 1;
+    }
+    // relative standard deviation of the loads is about 1/sqrt(1000)
+    for (long count : counts) assertThat(count).isBetween(85_000L, 115_000L);
+  }
+
+  @Test
+  void testForBuckets() {
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x0e5b7c3a9d1f4862L);
+    long[] keys = randomGenerator.longs(1000).toArray();
+    ConsistentHashRing mapper = new ConsistentHashRing(10);
+    BoundBucketMapper boundMapper = mapper.forBuckets(10);
+    mapper.getBucket(0, 11);
+    mapper.getBucket(0, 12);
+    for (long key : keys) {
+      assertThat(boundMapper.getBucket(key))
+          .isEqualTo(new ConsistentHashRing(10).getBucket(key, 10));
+    }
+    assertThatIllegalArgumentException().isThrownBy(() -> mapper.forBuckets(0));
+  }
+
+  @Test
+  void testMemoryFootprint() {
+    ConsistentHashRing mapper = new ConsistentHashRing(7);
+    assertThat(mapper.getNumVirtualNodes()).isEqualTo(7);
+    assertThat(mapper.getMemoryFootprint()).isZero();
+    mapper.getBucket(0, 10);
+    assertThat(mapper.getMemoryFootprint()).isEqualTo(Long.BYTES * (7 * 10 + 1));
+    mapper.getBucket(0, 20);
+    assertThat(mapper.getMemoryFootprint()).isEqualTo(Long.BYTES * (7 * 30 + 2));
+  }
+
+  @Test
+  void testIllegalArguments() {
+    assertThatIllegalArgumentException().isThrownBy(() -> new ConsistentHashRing(0));
+    ConsistentHashRing mapper = new ConsistentHashRing(2);
+    assertThatIllegalArgumentException().isThrownBy(() -> mapper.getBucket(0, 0));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> mapper.getBucket(0, Integer.MAX_VALUE / 2));
+    assertThat(mapper.getBucket(0, 1)).isZero();
+  }
+}
@@ -0,0 +1,63 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+interface DisruptionTest extends BaseTest {
+
+  int DISRUPTION_TEST_NUM_KEYS = 1_000_000;
+
+  // Adding a bucket must move at least a fraction of 1/(n+1) of all keys to keep the mapping
+  // balanced, which is exactly what monotone mappers achieve. Returns the maximum expected ratio
+  // between the fraction of moved keys and this minimum.
+  double getMaxDisruptionRatio(int numBuckets);
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 10, 100, 1000})
+  default void testDisruption(int numBuckets) {
+
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x51c8e2a7f3b94d06L + numBuckets);
+
+    long numMovedKeys = 0;
+    for (int i = 0; i < DISRUPTION_TEST_NUM_KEYS; ++i) {
+      long hashedKey = randomGenerator.nextLong();
+      if (mapKeyToBucketIndex(hashedKey, numBuckets)
+          != mapKeyToBucketIndex(hashedKey, numBuckets + 1)) {
+        numMovedKeys += 1;
+      }
+    }
+
+    double ratio = numMovedKeys * (numBuckets + 1.) / DISRUPTION_TEST_NUM_KEYS;
+    // allow for random deviations below the minimum
+    assertThat(ratio).isBetween(0.9, getMaxDisruptionRatio(numBuckets));
+  }
+}
@@ -0,0 +1,107 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+
+interface DistinctBucketsTest extends BaseTest {
+
+  int DISTINCT_BUCKETS_TEST_NUM_CYCLES = 1_000;
+  int DISTINCT_BUCKETS_TEST_MAX_NUM_BUCKETS = 1_000;
+
+  BucketMapper getBucketMapper();
+
+  @Test
+  default void testGetDistinctBuckets() {
+
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x48d1e7f3a2b6c905L);
+    BucketMapper mapper = getBucketMapper();
+
+    for (int i = 0; i < DISTINCT_BUCKETS_TEST_NUM_CYCLES; ++i) {
+      long hash = randomGenerator.nextLong();
+      int numBuckets = randomGenerator.nextInt(1, DISTINCT_BUCKETS_TEST_MAX_NUM_BUCKETS + 1);
+      int[] buckets = new int[randomGenerator.nextInt(Math.min(numBuckets, 10) + 1)];
+
+      mapper.getDistinctBuckets(hash, numBuckets, buckets);
+
+      if (buckets.length > 0) {
+        assertThat(buckets[0]).isEqualTo(mapKeyToBucketIndex(hash, numBuckets));
+      }
+      assertThat(Arrays.stream(buckets).allMatch(b -> b >= 0 && b < numBuckets)).isTrue();
+      assertThat(buckets).doesNotHaveDuplicates();
+    }
+  }
+
+  @Test
+  default void testGetDistinctBucketsForAllBuckets() {
+    BucketMapper mapper = getBucketMapper();
+    int numBuckets = 20;
+    int[] buckets = new int[numBuckets];
+    mapper.getDistinctBuckets(0x2d9f4b1e6a3c8075L, numBuckets, buckets);
+    Arrays.sort(buckets);
+    for (int i = 0; i < numBuckets; ++i) {
+      assertThat(buckets[i]).isEqualTo(i);
+    }
+  }
+
+  @Test
+  default void testGetDistinctBucketsMinimalChange() {
+
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x7a0c5e3d9f1b2846L);
+    BucketMapper mapper = getBucketMapper();
+    int[] oldBuckets = new int[3];
+    int[] newBuckets = new int[3];
+
+    for (int i = 0; i < DISTINCT_BUCKETS_TEST_NUM_CYCLES; ++i) {
+      long hash = randomGenerator.nextLong();
+      mapper.getDistinctBuckets(hash, oldBuckets.length, oldBuckets);
+      for (int numBuckets = oldBuckets.length + 1; numBuckets <= 100; ++numBuckets) {
+        mapper.getDistinctBuckets(hash, numBuckets, newBuckets);
+        boolean changed = false;
+        boolean containsNewBucket = false;
+        for (int b : newBuckets) {
+          if (Arrays.stream(oldBuckets).noneMatch(x -> x == b)) changed = true;
+          if (b == numBuckets - 1) containsNewBucket = true;
+        }
+        if (changed) assertThat(containsNewBucket).isTrue();
+        System.arraycopy(newBuckets, 0, oldBuckets, 0, newBuckets.length);
+      }
+    }
+  }
+
+  @Test
+  default void testGetDistinctBucketsIllegalArgument() {
+    BucketMapper mapper = getBucketMapper();
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> mapper.getDistinctBuckets(0L, 2, new int[3]));
+  }
+}
@@ -0,0 +1,73 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+
+class FastModMapperTest
+    implements ChecksumTest, UniformityTest, GetBucketsTest, ForBucketsTest, ThreadSafetyTest {
+
+  private static final BucketMapper MAPPER = new FastModMapper();
+
+  @Override
+  public BucketMapper getBucketMapper() {
+    return MAPPER;
+  }
+
+  @Override
+  public int mapKeyToBucketIndex(long key, int numBuckets) {
+    return MAPPER.getBucket(key, numBuckets);
+  }
+
+  @Override
+  public long getCheckSum() {
+    return 0x31f4da9eeefa9f29L;
+  }
+
+  @Test
+  void testRemainder() {
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x7b2e5d9a0c4f1863L);
+    BucketMapper mapper = new FastModMapper();
+    for (int i = 0; i < 100_000; ++i) {
+      int numBuckets = Math.max(1, randomGenerator.nextInt() >>> 1 >>> randomGenerator.nextInt());
+      long key = randomGenerator.nextLong();
+      assertThat(mapper.getBucket(key, numBuckets))
+          .isEqualTo(Long.remainderUnsigned(key, numBuckets));
+    }
+  }
+
+  @Test
+  void testNonPositiveNumBuckets() {
+    assertThatIllegalArgumentException().isThrownBy(() -> MAPPER.getBucket(0x123L, 0));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> MAPPER.getBuckets(new long[1], -1, new int[1]));
+  }
+}
@@ -0,0 +1,73 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FastModTest {
+
+  private static final int NUM_VALUES = 100_000;
+
+  @ParameterizedTest
+  @ValueSource(
+      ints = {1, 2, 3, 5, 7, 10, 16, 1000, 65537, 1 << 20, 1_000_003, 1 << 30, Integer.MAX_VALUE})
+  void testRemainderUnsigned(int divisor) {
+    RandomGenerator randomGenerator = BaseTest.RANDOM_FACTORY.create(divisor);
+    FastMod fastMod = new FastMod(divisor);
+    long[] specialValues = {0, 1, divisor - 1, divisor, Long.MAX_VALUE, Long.MIN_VALUE, -1};
+    for (long x : specialValues) {
+      assertThat(fastMod.remainderUnsigned(x)).isEqualTo(Long.remainderUnsigned(x, divisor));
+    }
+    for (int i = 0; i < NUM_VALUES; ++i) {
+      long x = randomGenerator.nextLong();
+      assertThat(fastMod.remainderUnsigned(x)).isEqualTo(Long.remainderUnsigned(x, divisor));
+    }
+  }
+
+  @Test
+  void testRandomDivisors() {
+    RandomGenerator randomGenerator = BaseTest.RANDOM_FACTORY.create(0x4c8e2a6f1b3d5079L);
+    for (int i = 0; i < NUM_VALUES; ++i) {
+      int divisor = Math.max(1, randomGenerator.nextInt() >>> 1 >>> randomGenerator.nextInt());
+      long x = randomGenerator.nextLong();
+      assertThat(new FastMod(divisor).remainderUnsigned(x))
+          .isEqualTo(Long.remainderUnsigned(x, divisor));
+    }
+  }
+
+  @Test
+  void testIllegalDivisor() {
+    assertThatIllegalArgumentException().isThrownBy(() -> new FastMod(0));
+    assertThatIllegalArgumentException().isThrownBy(() -> new FastMod(-1));
+  }
+}
@@ -0,0 +1,59 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+class FastRangeMapperTest
+    implements ChecksumTest, UniformityTest, GetBucketsTest, ForBucketsTest, ThreadSafetyTest {
+
+  private static final BucketMapper MAPPER = new FastRangeMapper();
+
+  @Override
+  public BucketMapper getBucketMapper() {
+    return MAPPER;
+  }
+
+  @Override
+  public int mapKeyToBucketIndex(long key, int numBuckets) {
+    return MAPPER.getBucket(key, numBuckets);
+  }
+
+  @Override
+  public long getCheckSum() {
+    return 0xbd3c3096a418e9d8L;
+  }
+
+  @Test
+  void testNonPositiveNumBuckets() {
+    assertThatIllegalArgumentException().isThrownBy(() -> MAPPER.getBucket(0x123L, 0));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> MAPPER.getBuckets(new long[1], -1, new int[1]));
+  }
+}
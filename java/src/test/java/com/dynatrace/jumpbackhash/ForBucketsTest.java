@@ -0,0 +1,72 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+
+interface ForBucketsTest extends BaseTest {
+
+  int FOR_BUCKETS_TEST_NUM_CYCLES = 1_000;
+  int FOR_BUCKETS_TEST_NUM_KEYS = 100;
+
+  BucketMapper getBucketMapper();
+
+  @Test
+  default void testForBuckets() {
+
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x3f6e0c2b9a4d8157L);
+
+    BucketMapper mapper = getBucketMapper();
+
+    for (int i = 0; i < FOR_BUCKETS_TEST_NUM_CYCLES; ++i) {
+      int numBuckets =
+          switch (i & 3) {
+            case 0 -> 1;
+            case 1 -> 1 << randomGenerator.nextInt(31);
+            default -> Math.max(1, randomGenerator.nextInt() >>> 1 >>> randomGenerator.nextInt());
+          };
+      BoundBucketMapper boundMapper = mapper.forBuckets(numBuckets);
+      for (int j = 0; j < FOR_BUCKETS_TEST_NUM_KEYS; ++j) {
+        long hash = randomGenerator.nextLong();
+        int expected = mapKeyToBucketIndex(hash, numBuckets);
+        assertThat(boundMapper.getBucket(hash)).isEqualTo(expected);
+        assertThat(boundMapper.applyAsInt(hash)).isEqualTo(expected);
+      }
+    }
+  }
+
+  @Test
+  default void testForBucketsNonPositive() {
+    BucketMapper mapper = getBucketMapper();
+    assertThatIllegalArgumentException().isThrownBy(() -> mapper.forBuckets(0));
+    assertThatIllegalArgumentException().isThrownBy(() -> mapper.forBuckets(-1));
+  }
+}
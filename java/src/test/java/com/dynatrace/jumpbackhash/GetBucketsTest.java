@@ -0,0 +1,99 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+
+interface GetBucketsTest extends BaseTest {
+
+  int GET_BUCKETS_TEST_NUM_CYCLES = 1_000;
+  int GET_BUCKETS_TEST_MAX_NUM_KEYS = 100;
+
+  BucketMapper getBucketMapper();
+
+  @Test
+  default void testGetBuckets() {
+
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x6c1f04b6fa6c3e2dL);
+
+    BucketMapper mapper = getBucketMapper();
+    int[] buckets = new int[GET_BUCKETS_TEST_MAX_NUM_KEYS + 2];
+
+    for (int i = 0; i < GET_BUCKETS_TEST_NUM_CYCLES; ++i) {
+      int numBuckets =
+          switch (i & 3) {
+            case 0 -> 1;
+            case 1 -> 1 << randomGenerator.nextInt(31);
+            default -> Math.max(1, randomGenerator.nextInt() >>> 1 >>> randomGenerator.nextInt());
+          };
+      int numKeys = randomGenerator.nextInt(GET_BUCKETS_TEST_MAX_NUM_KEYS + 1);
+      long[] hashes = randomGenerator.longs(numKeys + 2).toArray();
+      Arrays.fill(buckets, -1);
+
+      mapper.getBuckets(hashes, 1, numKeys + 1, numBuckets, buckets);
+
+      assertThat(buckets[0]).isEqualTo(-1);
+      assertThat(buckets[numKeys + 1]).isEqualTo(-1);
+      for (int j = 1; j <= numKeys; ++j) {
+        assertThat(buckets[j]).isEqualTo(mapKeyToBucketIndex(hashes[j], numBuckets));
+      }
+    }
+  }
+
+  @Test
+  default void testGetBucketsForWholeArray() {
+
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x0b3a6f4f6e1dd6a5L);
+
+    BucketMapper mapper = getBucketMapper();
+    int numBuckets = 1000;
+    long[] hashes = randomGenerator.longs(GET_BUCKETS_TEST_MAX_NUM_KEYS).toArray();
+    int[] buckets = new int[GET_BUCKETS_TEST_MAX_NUM_KEYS];
+
+    mapper.getBuckets(hashes, numBuckets, buckets);
+
+    for (int j = 0; j < GET_BUCKETS_TEST_MAX_NUM_KEYS; ++j) {
+      assertThat(buckets[j]).isEqualTo(mapKeyToBucketIndex(hashes[j], numBuckets));
+    }
+  }
+
+  @Test
+  default void testGetBucketsIndexOutOfBounds() {
+    BucketMapper mapper = getBucketMapper();
+    assertThatExceptionOfType(IndexOutOfBoundsException.class)
+        .isThrownBy(() -> mapper.getBuckets(new long[3], 0, 4, 10, new int[4]));
+    assertThatExceptionOfType(IndexOutOfBoundsException.class)
+        .isThrownBy(() -> mapper.getBuckets(new long[4], 0, 4, 10, new int[3]));
+    assertThatExceptionOfType(IndexOutOfBoundsException.class)
+        .isThrownBy(() -> mapper.getBuckets(new long[4], 2, 1, 10, new int[4]));
+  }
+}
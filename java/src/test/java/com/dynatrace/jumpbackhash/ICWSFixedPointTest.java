@@ -0,0 +1,85 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class ICWSFixedPointTest
+    implements ChecksumTest,
+        UniformityTest,
+        MonotonicityTest,
+        GetBucketsTest,
+        ForBucketsTest,
+        DistinctBucketsTest {
+
+  private static final BucketMapper MAPPER = new ICWSFixedPoint(new SplitMix64V1());
+
+  @Override
+  public BucketMapper getBucketMapper() {
+    return MAPPER;
+  }
+
+  @Override
+  public int mapKeyToBucketIndex(long key, int numBuckets) {
+    return MAPPER.getBucket(key, numBuckets);
+  }
+
+  @Override
+  public long getCheckSum() {
+    return 0x998d8c4b6d77866dL;
+  }
+
+  @Test
+  void testLog2() {
+    for (int i = 0; i < 64; ++i) {
+      assertThat(ICWSFixedPoint.log2(1L << i)).isEqualTo((long) i << 48);
+    }
+    SplittableRandom random = new SplittableRandom(0x5a8f0c3e71b2d946L);
+    for (int i = 0; i < 100_000; ++i) {
+      long x = (random.nextLong() >>> random.nextInt(64)) | 1;
+      double expected = Math.log(2. * (x >>> 1) + (x & 1)) / Math.log(2);
+      assertThat(Math.abs(ICWSFixedPoint.log2(x) * 0x1p-48 - expected)).isLessThan(0x1p-22);
+      assertThat(ICWSFixedPoint.log2(x)).isLessThanOrEqualTo(ICWSFixedPoint.log2(x + 1));
+    }
+  }
+
+  @Test
+  void testPow2() {
+    SplittableRandom random = new SplittableRandom(0x1e6d93b04c7f28a5L);
+    for (int i = 0; i < 100_000; ++i) {
+      int n = 1 + (random.nextInt(Integer.MAX_VALUE) >>> random.nextInt(31));
+      assertThat(ICWSFixedPoint.pow2(ICWSFixedPoint.log2(n))).isEqualTo(n);
+      long z = random.nextLong(31L << 48);
+      int x = ICWSFixedPoint.pow2(z);
+      assertThat(ICWSFixedPoint.log2(x)).isLessThanOrEqualTo(z);
+      assertThat(ICWSFixedPoint.log2(x + 1L)).isGreaterThan(z);
+    }
+  }
+}
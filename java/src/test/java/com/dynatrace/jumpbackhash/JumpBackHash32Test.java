@@ -26,10 +26,21 @@
 //
 package com.dynatrace.jumpbackhash;
 
-class JumpBackHash32Test implements ChecksumTest, UniformityTest, MonotonicityTest {
+class JumpBackHash32Test
+    implements ChecksumTest,
+        UniformityTest,
+        MonotonicityTest,
+        GetBucketsTest,
+        ForBucketsTest,
+        DistinctBucketsTest {
 
   private static final BucketMapper MAPPER = new JumpBackHash32(new SplitMix64V1());
 
+  @Override
+  public BucketMapper getBucketMapper() {
+    return MAPPER;
+  }
+
   @Override
   public int mapKeyToBucketIndex(long key, int numBuckets) {
     return MAPPER.getBucket(key, numBuckets);
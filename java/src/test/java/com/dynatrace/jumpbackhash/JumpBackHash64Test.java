@@ -0,0 +1,85 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+
+class JumpBackHash64Test
+    implements ChecksumTest,
+        LongUniformityTest,
+        MonotonicityTest,
+        GetBucketsTest,
+        ForBucketsTest,
+        DistinctBucketsTest {
+
+  private static final JumpBackHash64 MAPPER = new JumpBackHash64(new SplitMix64V1());
+
+  @Override
+  public BucketMapper getBucketMapper() {
+    return MAPPER;
+  }
+
+  @Override
+  public int mapKeyToBucketIndex(long key, int numBuckets) {
+    return MAPPER.getBucket(key, numBuckets);
+  }
+
+  @Override
+  public long mapKeyToLongBucketIndex(long key, long numBuckets) {
+    return MAPPER.getBucket(key, numBuckets);
+  }
+
+  @Override
+  public long getCheckSum() {
+    return 0x840844dea52a7054L;
+  }
+
+  @Test
+  void testMonotonicityWithHugeNumBuckets() {
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x6e3a0d9c4b1f7285L);
+    for (int i = 0; i < 1_000_000; ++i) {
+      long hash = randomGenerator.nextLong();
+      long numBuckets = randomGenerator.nextLong(1, Long.MAX_VALUE) >>> randomGenerator.nextInt(32);
+      long bucket = MAPPER.getBucket(hash, numBuckets);
+      assertThat(MAPPER.getBucket(hash, numBuckets + 1)).isIn(bucket, numBuckets);
+    }
+  }
+
+  @Test
+  void testConsistencyOfIntAndLongNumBuckets() {
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x2c7f5b8e1a4d9063L);
+    for (int i = 0; i < 100_000; ++i) {
+      long hash = randomGenerator.nextLong();
+      int numBuckets = randomGenerator.nextInt(1, Integer.MAX_VALUE);
+      assertThat((long) MAPPER.getBucket(hash, numBuckets))
+          .isEqualTo(MAPPER.getBucket(hash, (long) numBuckets));
+    }
+  }
+}
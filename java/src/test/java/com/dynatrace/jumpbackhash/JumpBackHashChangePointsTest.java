@@ -0,0 +1,112 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+
+class JumpBackHashChangePointsTest {
+
+  private static final int NUM_CYCLES = 1_000;
+  private static final int MAX_NUM_BUCKETS = 10_000;
+
+  private static final BucketMapper MAPPER = new JumpBackHash(new SplitMix64V1());
+  private static final JumpBackHashChangePoints CHANGE_POINTS =
+      new JumpBackHashChangePoints(new SplitMix64V1());
+
+  @Test
+  void testNextChangeWithSmallNumBuckets() {
+    RandomGenerator randomGenerator = BaseTest.RANDOM_FACTORY.create(0x7d7f1b0c0e1b4d3bL);
+    int[] buckets = new int[MAX_NUM_BUCKETS + 1];
+    for (int i = 0; i < NUM_CYCLES; ++i) {
+      long hash = randomGenerator.nextLong();
+      for (int n = 1; n <= MAX_NUM_BUCKETS; ++n) {
+        buckets[n] = MAPPER.getBucket(hash, n);
+      }
+      int expectedNextChange = Integer.MAX_VALUE; // unknown
+      for (int n = MAX_NUM_BUCKETS - 1; n >= 1; --n) {
+        if (buckets[n + 1] != buckets[n]) expectedNextChange = n + 1;
+        int nextChange = CHANGE_POINTS.nextChange(hash, n);
+        if (expectedNextChange == Integer.MAX_VALUE) {
+          assertThat(nextChange < 0 || nextChange > MAX_NUM_BUCKETS).isTrue();
+        } else {
+          assertThat(nextChange).isEqualTo(expectedNextChange);
+        }
+      }
+      assertThat(CHANGE_POINTS.nextChange(hash, 0)).isEqualTo(CHANGE_POINTS.nextChange(hash, 1));
+    }
+  }
+
+  @Test
+  void testNextChangeWithLargeNumBuckets() {
+    RandomGenerator randomGenerator = BaseTest.RANDOM_FACTORY.create(0x3e5b1c1e8c3b0f6aL);
+    for (int i = 0; i < NUM_CYCLES * 100; ++i) {
+      long hash = randomGenerator.nextLong();
+      int n = randomGenerator.nextInt(1, Integer.MAX_VALUE);
+      int bucket = MAPPER.getBucket(hash, n);
+      int nextChange = CHANGE_POINTS.nextChange(hash, n);
+      if (nextChange > 0) {
+        assertThat(nextChange).isGreaterThan(n);
+        assertThat(MAPPER.getBucket(hash, nextChange)).isEqualTo(nextChange - 1);
+        assertThat(MAPPER.getBucket(hash, nextChange - 1)).isEqualTo(bucket);
+        assertThat(MAPPER.getBucket(hash, randomGenerator.nextInt(n, nextChange)))
+            .isEqualTo(bucket);
+      } else {
+        assertThat(MAPPER.getBucket(hash, Integer.MAX_VALUE)).isEqualTo(bucket);
+      }
+    }
+  }
+
+  @Test
+  void testBucketHistory() {
+    RandomGenerator randomGenerator = BaseTest.RANDOM_FACTORY.create(0x55a3f5b7e0e5d2c9L);
+    JumpBackHashChangePoints.BucketHistory history = CHANGE_POINTS.newBucketHistory();
+    for (int i = 0; i < NUM_CYCLES * 100; ++i) {
+      long hash = randomGenerator.nextLong();
+      int maxNumBuckets = (i % 2 == 0) ? Integer.MAX_VALUE : randomGenerator.nextInt(1, 1 << 20);
+      history.reset(hash, maxNumBuckets);
+      assertThat(history.next()).isTrue();
+      assertThat(history.getNumBuckets()).isEqualTo(1);
+      assertThat(history.getBucket()).isZero();
+      int numBuckets = 1;
+      while (history.next()) {
+        assertThat(history.getNumBuckets())
+            .isGreaterThan(numBuckets)
+            .isLessThanOrEqualTo(maxNumBuckets);
+        assertThat(MAPPER.getBucket(hash, history.getNumBuckets() - 1))
+            .isEqualTo(MAPPER.getBucket(hash, numBuckets));
+        numBuckets = history.getNumBuckets();
+        assertThat(MAPPER.getBucket(hash, numBuckets)).isEqualTo(history.getBucket());
+      }
+      assertThat(history.next()).isFalse();
+      assertThat(MAPPER.getBucket(hash, maxNumBuckets))
+          .isEqualTo(MAPPER.getBucket(hash, numBuckets));
+    }
+  }
+}
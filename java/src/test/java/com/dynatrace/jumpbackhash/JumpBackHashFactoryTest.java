@@ -0,0 +1,161 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class JumpBackHashFactoryTest implements ChecksumTest {
+
+  private static final BucketMapper MAPPER = JumpBackHashFactory.createJumpBackHash();
+
+  @Override
+  public int mapKeyToBucketIndex(long key, int numBuckets) {
+    return MAPPER.getBucket(key, numBuckets);
+  }
+
+  @Override
+  public long getCheckSum() {
+    return 0x23d7a0d288cd67e7L; // same as JumpBackHash
+  }
+
+  private static Map<String, Supplier<BucketMapper>> getVariants() {
+    Map<String, Supplier<BucketMapper>> variants = new LinkedHashMap<>();
+    variants.put("JumpBackHash", () -> new JumpBackHash(new SplitMix64V1()));
+    variants.put("JumpBackHashSplitMix64", JumpBackHashSplitMix64::new);
+    variants.put("ModuloMapper", ModuloMapper::new);
+    return variants;
+  }
+
+  // only the first round may start after the deadline, for example if class loading takes longer
+  // than the budget, hence the budget is exceeded by less than one round
+  private static void assertLastRoundStartedBeforeDeadline(
+      JumpBackHashFactory.Calibration calibration) {
+    if (calibration.getNumRounds() > 1) {
+      assertThat(calibration.getLastRoundStartRelativeToDeadline()).isNegative();
+    }
+  }
+
+  @Test
+  void testCalibrationTime() {
+    JumpBackHashFactory.Calibration calibration =
+        JumpBackHashFactory.calibrate("test", getVariants(), Duration.ZERO);
+    assertThat(calibration.getNumRounds()).isOne();
+    assertThat(calibration.getLastRoundStartRelativeToDeadline().isNegative()).isFalse();
+    assertLastRoundStartedBeforeDeadline(
+        JumpBackHashFactory.calibrate(
+            "test", getVariants(), JumpBackHashFactory.DEFAULT_CALIBRATION_BUDGET));
+  }
+
+  @Test
+  void testCalibrationTimeOfFamilies() {
+    JumpBackHashFactory.Calibration calibration =
+        JumpBackHashFactory.calibrate(
+            "JumpBackHash",
+            JumpBackHashFactory.getJumpBackHashVariants(),
+            JumpBackHashFactory.DEFAULT_CALIBRATION_BUDGET);
+    assertThat(calibration.getMapper()).isNotInstanceOf(ModuloMapper.class);
+    assertLastRoundStartedBeforeDeadline(calibration);
+    assertLastRoundStartedBeforeDeadline(
+        JumpBackHashFactory.calibrate(
+            "JumpBackHash32",
+            JumpBackHashFactory.getJumpBackHash32Variants(),
+            JumpBackHashFactory.DEFAULT_CALIBRATION_BUDGET));
+  }
+
+  @Test
+  void testVariantsWithDifferentOutputAreExcluded() {
+    for (int i = 0; i < 10; ++i) {
+      assertThat(JumpBackHashFactory.create("test", getVariants(), Duration.ofMillis(1)))
+          .isNotInstanceOf(ModuloMapper.class);
+    }
+  }
+
+  @Test
+  void testFamilies() {
+    assertThat(JumpBackHashFactory.createJumpBackHash())
+        .isInstanceOfAny(
+            JumpBackHash.class, JumpBackHashSplitMix64.class, JumpBackHashBranchFree.class);
+    assertThat(JumpBackHashFactory.createJumpBackHash32())
+        .isInstanceOfAny(JumpBackHash32.class, JumpBackHash32SplitMix64.class);
+  }
+
+  @Test
+  void testNewInstancePerCall() {
+    assertThat(JumpBackHashFactory.createJumpBackHash())
+        .isNotSameAs(JumpBackHashFactory.createJumpBackHash());
+    assertThat(JumpBackHashFactory.createJumpBackHash32())
+        .isNotSameAs(JumpBackHashFactory.createJumpBackHash32());
+  }
+
+  @Test
+  void testOverride() {
+    String property = JumpBackHashFactory.PROPERTY_PREFIX + "test";
+    try {
+      System.setProperty(property, "JumpBackHashSplitMix64");
+      assertThat(JumpBackHashFactory.create("test", getVariants(), Duration.ofDays(1)))
+          .isInstanceOf(JumpBackHashSplitMix64.class);
+      System.setProperty(property, "JumpBackHash");
+      assertThat(JumpBackHashFactory.create("test", getVariants(), Duration.ofDays(1)))
+          .isInstanceOf(JumpBackHash.class);
+      System.setProperty(property, "unknown");
+      assertThatIllegalArgumentException()
+          .isThrownBy(() -> JumpBackHashFactory.create("test", getVariants(), Duration.ZERO));
+    } finally {
+      System.clearProperty(property);
+    }
+  }
+
+  @Test
+  void testUnstableVariant() {
+    int[] counter = {0};
+    Map<String, Supplier<BucketMapper>> variants =
+        Map.of("unstable", () -> (key, numBuckets) -> (counter[0]++ < 256) ? 0 : 1);
+    assertThatIllegalStateException()
+        .isThrownBy(() -> JumpBackHashFactory.create("test", variants, Duration.ZERO));
+  }
+
+  @Test
+  void testIndexOfMin() {
+    assertThat(JumpBackHashFactory.indexOfMin(new long[] {3})).isZero();
+    assertThat(JumpBackHashFactory.indexOfMin(new long[] {3, 1, 2, 1})).isEqualTo(1);
+    assertThat(JumpBackHashFactory.indexOfMin(new long[] {1, 3, 2})).isZero();
+  }
+
+  @Test
+  void testNoVariants() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> JumpBackHashFactory.create("test", Map.of(), Duration.ZERO));
+  }
+}
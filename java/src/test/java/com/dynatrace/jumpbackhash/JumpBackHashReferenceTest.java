@@ -26,10 +26,16 @@
 //
 package com.dynatrace.jumpbackhash;
 
-class JumpBackHashReferenceTest implements ChecksumTest, UniformityTest, MonotonicityTest {
+class JumpBackHashReferenceTest
+    implements ChecksumTest, UniformityTest, MonotonicityTest, GetBucketsTest, DistinctBucketsTest {
 
   private static final BucketMapper MAPPER = new JumpBackHashReference(new SplitMix64V1());
 
+  @Override
+  public BucketMapper getBucketMapper() {
+    return MAPPER;
+  }
+
   @Override
   public int mapKeyToBucketIndex(long key, int numBuckets) {
     return MAPPER.getBucket(key, numBuckets);
@@ -26,10 +26,22 @@
 //
 package com.dynatrace.jumpbackhash;
 
-class JumpBackHashTest implements ChecksumTest, UniformityTest, MonotonicityTest {
+class JumpBackHashTest
+    implements ChecksumTest,
+        UniformityTest,
+        MonotonicityTest,
+        DisruptionTest,
+        GetBucketsTest,
+        ForBucketsTest,
+        DistinctBucketsTest {
 
   private static final BucketMapper MAPPER = new JumpBackHash(new SplitMix64V1());
 
+  @Override
+  public BucketMapper getBucketMapper() {
+    return MAPPER;
+  }
+
   @Override
   public int mapKeyToBucketIndex(long key, int numBuckets) {
     return MAPPER.getBucket(key, numBuckets);
@@ -39,4 +51,9 @@ class JumpBackHashTest implements ChecksumTest, UniformityTest, MonotonicityTest
   public long getCheckSum() {
     return 0x23d7a0d288cd67e7L;
   }
+
+  @Override
+  public double getMaxDisruptionRatio(int numBuckets) {
+    return 1.1;
+  }
 }
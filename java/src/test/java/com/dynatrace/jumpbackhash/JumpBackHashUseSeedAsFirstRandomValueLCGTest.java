@@ -27,10 +27,20 @@
 package com.dynatrace.jumpbackhash;
 
 class JumpBackHashUseSeedAsFirstRandomValueLCGTest
-    implements ChecksumTest, UniformityTest, MonotonicityTest {
+    implements ChecksumTest,
+        UniformityTest,
+        MonotonicityTest,
+        GetBucketsTest,
+        ForBucketsTest,
+        DistinctBucketsTest {
 
   private static final BucketMapper MAPPER = new JumpBackHashUseSeedAsFirstRandomValueLCG();
 
+  @Override
+  public BucketMapper getBucketMapper() {
+    return MAPPER;
+  }
+
   @Override
   public int mapKeyToBucketIndex(long key, int numBuckets) {
     return MAPPER.getBucket(key, numBuckets);
@@ -27,11 +27,21 @@
 package com.dynatrace.jumpbackhash;
 
 class JumpBackHashUseSeedAsFirstRandomValueTest
-    implements ChecksumTest, UniformityTest, MonotonicityTest {
+    implements ChecksumTest,
+        UniformityTest,
+        MonotonicityTest,
+        GetBucketsTest,
+        ForBucketsTest,
+        DistinctBucketsTest {
 
   private static final BucketMapper MAPPER =
       new JumpBackHashUseSeedAsFirstRandomValue(new SplitMix64V1());
 
+  @Override
+  public BucketMapper getBucketMapper() {
+    return MAPPER;
+  }
+
   @Override
   public int mapKeyToBucketIndex(long key, int numBuckets) {
     return MAPPER.getBucket(key, numBuckets);
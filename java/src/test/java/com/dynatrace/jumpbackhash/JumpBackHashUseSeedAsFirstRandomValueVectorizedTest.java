@@ -0,0 +1,72 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+
+class JumpBackHashUseSeedAsFirstRandomValueVectorizedTest
+    implements ChecksumTest, GetBucketsTest, ForBucketsTest {
+
+  private static final BucketMapper MAPPER =
+      new JumpBackHashUseSeedAsFirstRandomValueVectorized(new SplitMix64V1());
+
+  // large enough to cover several vectors for all supported vector sizes
+  private final long[] keys = new long[32];
+  private final int[] buckets = new int[32];
+
+  @Override
+  public BucketMapper getBucketMapper() {
+    return MAPPER;
+  }
+
+  // maps the key together with copies of it to make sure that the vectorized path is taken
+  @Override
+  public int mapKeyToBucketIndex(long key, int numBuckets) {
+    Arrays.fill(keys, key);
+    MAPPER.getBuckets(keys, numBuckets, buckets);
+    return buckets[0];
+  }
+
+  @Override
+  public long getCheckSum() {
+    return 0x62ef8ec9412ba52bL; // same as JumpBackHashUseSeedAsFirstRandomValue
+  }
+
+  @Test
+  void testGetBucketConsistentWithGetBuckets() {
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x2f8e5c1a7b3d9064L);
+    for (int i = 0; i < 1000; ++i) {
+      long key = randomGenerator.nextLong();
+      int numBuckets = randomGenerator.nextInt(1, Integer.MAX_VALUE);
+      assertThat(MAPPER.getBucket(key, numBuckets)).isEqualTo(mapKeyToBucketIndex(key, numBuckets));
+    }
+  }
+}
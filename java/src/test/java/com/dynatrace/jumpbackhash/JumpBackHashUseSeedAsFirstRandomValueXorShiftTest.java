@@ -29,10 +29,20 @@ package com.dynatrace.jumpbackhash;
 import org.junit.jupiter.api.Test;
 
 class JumpBackHashUseSeedAsFirstRandomValueXorShiftTest
-    implements ChecksumTest, UniformityTest, MonotonicityTest {
+    implements ChecksumTest,
+        UniformityTest,
+        MonotonicityTest,
+        GetBucketsTest,
+        ForBucketsTest,
+        DistinctBucketsTest {
 
   private static final BucketMapper MAPPER = new JumpBackHashUseSeedAsFirstRandomValueXorShift();
 
+  @Override
+  public BucketMapper getBucketMapper() {
+    return MAPPER;
+  }
+
   @Override
   public int mapKeyToBucketIndex(long key, int numBuckets) {
     return MAPPER.getBucket(key, numBuckets);
@@ -0,0 +1,96 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class JumpHashDivisionFreeTest implements ChecksumTest, GetBucketsTest, ThreadSafetyTest {
+
+  private static final BucketMapper MAPPER = new JumpHashDivisionFree();
+
+  @Override
+  public BucketMapper getBucketMapper() {
+    return MAPPER;
+  }
+
+  @Override
+  public int mapKeyToBucketIndex(long key, int numBuckets) {
+    return MAPPER.getBucket(key, numBuckets);
+  }
+
+  @Override
+  public long getCheckSum() {
+    return 0xfd5390c955b998f7L; // same as JumpHash
+  }
+
+  private static void assertNextBucket(int b, long r) {
+    assertThat(JumpHashDivisionFree.getNextBucket(b, r))
+        .describedAs("b = %d, r = %d", b, r)
+        .isEqualTo((int) ((b + 1) / (r * 0x1.0p-53)));
+  }
+
+  @Test
+  void testGetNextBucket() {
+    SplittableRandom random = new SplittableRandom(0x6f1d2b8e4c935a07L);
+    for (int i = 0; i < 1_000_000; ++i) {
+      int b = (int) (random.nextLong(Integer.MAX_VALUE) >>> random.nextInt(31));
+      long r = random.nextLong() >>> 11 >>> random.nextInt(32);
+      assertNextBucket(b, r);
+    }
+  }
+
+  // quotients slightly below an integer, for which the floating-point division may round up
+  @Test
+  void testGetNextBucketNearIntegers() {
+    SplittableRandom random = new SplittableRandom(0x2a7e93c05d18f6b4L);
+    for (int i = 0; i < 100_000; ++i) {
+      int b = (int) (random.nextLong(Integer.MAX_VALUE) >>> random.nextInt(31));
+      long k = 1 + (random.nextLong(Integer.MAX_VALUE) >>> random.nextInt(31));
+      BigInteger dividend = BigInteger.valueOf(b + 1).shiftLeft(53);
+      // the smallest r with (b + 1) * 2^53 / r <= k
+      long r = dividend.add(BigInteger.valueOf(k - 1)).divide(BigInteger.valueOf(k)).longValue();
+      for (long d = -2; d <= 2; ++d) {
+        if (r + d >= 0 && r + d < (1L << 53)) assertNextBucket(b, r + d);
+      }
+    }
+  }
+
+  @Test
+  void testGetNextBucketEdgeCases() {
+    int[] bValues = {0, 1, 2, 1000, Integer.MAX_VALUE - 2, Integer.MAX_VALUE - 1};
+    long[] rValues = {0, 1, 2, (1L << 22) - 1, 1L << 22, (1L << 52) - 1, 1L << 52, (1L << 53) - 1};
+    for (int b : bValues) {
+      for (long r : rValues) {
+        assertNextBucket(b, r);
+      }
+    }
+  }
+}
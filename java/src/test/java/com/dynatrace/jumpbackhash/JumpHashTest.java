@@ -26,10 +26,21 @@
 //
 package com.dynatrace.jumpbackhash;
 
-class JumpHashTest implements ChecksumTest, UniformityTest, MonotonicityTest {
+class JumpHashTest
+    implements ChecksumTest,
+        UniformityTest,
+        MonotonicityTest,
+        GetBucketsTest,
+        ForBucketsTest,
+        DistinctBucketsTest {
 
   private static final BucketMapper MAPPER = new JumpHash(new SplitMix64V1());
 
+  @Override
+  public BucketMapper getBucketMapper() {
+    return MAPPER;
+  }
+
   @Override
   public int mapKeyToBucketIndex(long key, int numBuckets) {
     return MAPPER.getBucket(key, numBuckets);
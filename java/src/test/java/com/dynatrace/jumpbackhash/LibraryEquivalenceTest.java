@@ -0,0 +1,167 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dynatrace.hash4j.consistent.ConsistentHashing;
+import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+// compares the implementations of this repository with those of the libraries used in production,
+// the assertion messages report the first key and number of buckets for which the outputs differ
+class LibraryEquivalenceTest {
+
+  private static final int NUM_KEYS = 1 << 12;
+  private static final int NUM_RANDOM_EVALUATIONS = 1_000_000;
+
+  private static final PseudoRandomGeneratorProvider HASH4J_RANDOM_GENERATOR_PROVIDER =
+      PseudoRandomGeneratorProvider.splitMix64_V1();
+
+  private static final class Mismatches {
+
+    private final BucketMapper expectedMapper;
+    private final BucketMapper actualMapper;
+    private int numMismatches;
+    private int numEvaluations;
+    private String firstMismatch = "none";
+
+    private Mismatches(BucketMapper expectedMapper, BucketMapper actualMapper) {
+      this.expectedMapper = expectedMapper;
+      this.actualMapper = actualMapper;
+    }
+
+    private void evaluate(long key, int numBuckets) {
+      int expected = expectedMapper.getBucket(key, numBuckets);
+      int actual = actualMapper.getBucket(key, numBuckets);
+      numEvaluations += 1;
+      if (expected != actual) {
+        if (numMismatches == 0) {
+          firstMismatch =
+              "key "
+                  + key
+                  + " and "
+                  + numBuckets
+                  + " buckets, expected "
+                  + expected
+                  + " but was "
+                  + actual;
+        }
+        numMismatches += 1;
+      }
+    }
+
+    @Override
+    public String toString() {
+      return numMismatches
+          + " of "
+          + numEvaluations
+          + " bucket indices differ, first mismatch: "
+          + firstMismatch;
+    }
+  }
+
+  // the numBuckets values of the benchmarks, see BenchmarkNumBucketsValuesTest
+  private static int[] getBenchmarkNumBucketsValues() {
+    return IntStream.rangeClosed(0, 20)
+        .flatMap(e -> IntStream.of(1 << e, (1 << e) + 1, 5 << e >> 2, 6 << e >> 2, 7 << e >> 2))
+        .filter(n -> n <= 1 << 20)
+        .distinct()
+        .sorted()
+        .toArray();
+  }
+
+  // evaluates the benchmark numBuckets values for as many keys as used by the benchmarks, followed
+  // by random keys with random numbers of buckets up to 2^31 - 1 as in ChecksumTest
+  private static Mismatches findMismatches(BucketMapper expectedMapper, BucketMapper actualMapper) {
+    Mismatches mismatches = new Mismatches(expectedMapper, actualMapper);
+    RandomGenerator randomGenerator = BaseTest.RANDOM_FACTORY.create(0x5d0c8b4a2f3e9176L);
+    long[] keys = randomGenerator.longs(NUM_KEYS).toArray();
+    for (int numBuckets : getBenchmarkNumBucketsValues()) {
+      for (long key : keys) mismatches.evaluate(key, numBuckets);
+    }
+    SplittableRandom random = new SplittableRandom(0x0a55871a9d9103b7L);
+    for (int i = 0; i < NUM_RANDOM_EVALUATIONS; ++i) {
+      int numBuckets = Math.max(1, random.nextInt() >>> 1 >>> random.nextInt());
+      mismatches.evaluate(random.nextLong(), numBuckets);
+    }
+    return mismatches;
+  }
+
+  private static void assertEquivalence(BucketMapper expectedMapper, BucketMapper actualMapper) {
+    Mismatches mismatches = findMismatches(expectedMapper, actualMapper);
+    assertThat(mismatches.numMismatches).as(mismatches::toString).isZero();
+  }
+
+  @Test
+  void testBenchmarkNumBucketsValues() {
+    assertThat(getBenchmarkNumBucketsValues()).hasSize(93).startsWith(1, 2, 3).endsWith(1 << 20);
+  }
+
+  @Test
+  void testGuavaConsistentHash() {
+    assertEquivalence(
+        com.google.common.hash.Hashing::consistentHash,
+        new JumpHash(new GuavaLinearCongruentialGenerator()));
+  }
+
+  @Test
+  void testGuavaConsistentHashDivisionFree() {
+    assertEquivalence(
+        com.google.common.hash.Hashing::consistentHash, new JumpHashDivisionFreeLCG());
+  }
+
+  @Test
+  void testHash4jJumpHash() {
+    assertEquivalence(
+        ConsistentHashing.jumpHash(HASH4J_RANDOM_GENERATOR_PROVIDER)::getBucket,
+        new JumpHash(new SplitMix64V1()));
+  }
+
+  @Test
+  void testHash4jJumpBackHash() {
+    assertEquivalence(
+        ConsistentHashing.jumpBackHash(HASH4J_RANDOM_GENERATOR_PROVIDER)::getBucket,
+        new JumpBackHash(new SplitMix64V1()));
+  }
+
+  // hash4j draws the two exponentially distributed values before the uniform one and computes the
+  // logarithm in a platform-independent way, hence the bucket indices differ although they have the
+  // same distribution
+  @Test
+  void testHash4jImprovedConsistentWeightedSampling() {
+    Mismatches mismatches =
+        findMismatches(
+            ConsistentHashing.improvedConsistentWeightedSampling(HASH4J_RANDOM_GENERATOR_PROVIDER)
+                ::getBucket,
+            new ICWS(new SplitMix64V1()));
+    assertThat(mismatches.numMismatches).as(mismatches::toString).isPositive();
+  }
+}
@@ -0,0 +1,91 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import com.dynatrace.hash4j.hashing.Hashing;
+import java.util.random.RandomGenerator;
+import java.util.stream.LongStream;
+import org.hipparchus.distribution.continuous.UniformRealDistribution;
+import org.hipparchus.stat.inference.KolmogorovSmirnovTest;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+interface LongUniformityTest extends UniformityTest {
+
+  double UNIFORMITY_TEST_HUGE_TEST_SPECIFIC_ALPHA =
+      -Math.expm1(
+          Math.log1p(-UNIFORMITY_TEST_OVERALL_ALPHA) / getUniformityTestHugeNumBuckets().count());
+
+  long mapKeyToLongBucketIndex(long key, long numBuckets);
+
+  static LongStream getUniformityTestHugeNumBuckets() {
+    return LongStream.of(
+        Long.MAX_VALUE,
+        Long.MAX_VALUE - 1,
+        0x6000000000000000L, // 3*2^61
+        0x4000000000000001L, // 2^62 + 1
+        0x4000000000000000L, // 2^62
+        0x3FFFFFFFFFFFFFFFL, // 2^62 - 1
+        0x18000000000L, // 3*2^39
+        0x10000000001L, // 2^40 + 1
+        0x10000000000L, // 2^40
+        0x0FFFFFFFFFFL, // 2^40 - 1
+        0x100000001L, // 2^32 + 1
+        0x100000000L, // 2^32
+        0x0FFFFFFFFL, // 2^32 - 1
+        0x80000000L); // 2^31
+  }
+
+  @ParameterizedTest
+  @MethodSource("getUniformityTestHugeNumBuckets")
+  default void testUniformityWithHugeNumBuckets(long numBuckets) {
+
+    RandomGenerator randomGenerator =
+        RANDOM_FACTORY.create(
+            Hashing.komihash5_0()
+                .hashStream()
+                .putLong(0x1b9e4f7c2d5a8360L)
+                .putLong(numBuckets)
+                .getAsLong());
+
+    double[] bucketIndices = new double[UNIFORMITY_TEST_NUM_CYCLES];
+
+    for (int i = 0; i < UNIFORMITY_TEST_NUM_CYCLES; ++i) {
+      long hashedKey = randomGenerator.nextLong();
+      long bucketIdx = mapKeyToLongBucketIndex(hashedKey, numBuckets);
+      assertThat(bucketIdx).isNotNegative().isLessThan(numBuckets);
+      bucketIndices[i] = bucketIdx;
+    }
+
+    double pValue =
+        new KolmogorovSmirnovTest()
+            .kolmogorovSmirnovTest(new UniformRealDistribution(0., numBuckets), bucketIndices);
+    assertThat(pValue).isGreaterThan(UNIFORMITY_TEST_HUGE_TEST_SPECIFIC_ALPHA);
+  }
+}
@@ -0,0 +1,125 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MaglevHashTest implements DisruptionTest {
+
+  private static final MaglevHash MAPPER = new MaglevHash();
+
+  @Override
+  public int mapKeyToBucketIndex(long key, int numBuckets) {
+    return MAPPER.getBucket(key, numBuckets);
+  }
+
+  @Override
+  public double getMaxDisruptionRatio(int numBuckets) {
+    // more keys move between existing buckets as n approaches the table size
+    return (numBuckets <= 10) ? 1.1 : 10;
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 10, 1000, 65536, 65537})
+  void testBalance(int numBuckets) {
+    int[] table = new MaglevHash().getTable(numBuckets);
+    int[] counts = new int[numBuckets];
+    for (int bucket : table) counts[bucket] += 1;
+    int minCount = MaglevHash.DEFAULT_TABLE_SIZE / numBuckets;
+    for (int count : counts) assertThat(count).isBetween(minCount, minCount + 1);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 5000, 20000})
+  void testParallelBuild(int numBuckets) {
+    int tableSize = 655373;
+    MaglevHash mapper = new MaglevHash(tableSize);
+    MaglevHash parallelMapper = new MaglevHash(tableSize, ForkJoinPool.commonPool());
+    assertThat(parallelMapper.getTable(numBuckets)).isEqualTo(mapper.getTable(numBuckets));
+  }
+
+  @Test
+  void testTableCache() {
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x1d7e4a9c3f2b8065L);
+    long[] keys = randomGenerator.longs(100).toArray();
+    int[] numBucketsSequence = {10, 11, 10, 11, 12, 10, 11, 1000, 10, 10};
+    MaglevHash mapper = new MaglevHash(1009);
+    for (int numBuckets : numBucketsSequence) {
+      int[] buckets = new int[keys.length];
+      mapper.getBuckets(keys, numBuckets, buckets);
+      for (int i = 0; i < keys.length; ++i) {
+        assertThat(buckets[i]).isEqualTo(new MaglevHash(1009).getBucket(keys[i], numBuckets));
+      }
+    }
+    // two tables and the permutations of 1000 buckets with a capacity of 1000
+    assertThat(mapper.getMemoryFootprint()).isEqualTo(Integer.BYTES * (2L * 1009 + 3 * 1000));
+  }
+
+  @Test
+  void testForBuckets() {
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x6a0f2d8e4b1c9357L);
+    long[] keys = randomGenerator.longs(1000).toArray();
+    MaglevHash mapper = new MaglevHash(1009);
+    BoundBucketMapper boundMapper = mapper.forBuckets(10);
+    // repopulates both cached tables
+    mapper.getBucket(0, 11);
+    mapper.getBucket(0, 12);
+    for (long key : keys) {
+      assertThat(boundMapper.getBucket(key)).isEqualTo(new MaglevHash(1009).getBucket(key, 10));
+    }
+    assertThatIllegalArgumentException().isThrownBy(() -> mapper.forBuckets(0));
+    assertThatIllegalArgumentException().isThrownBy(() -> mapper.forBuckets(1010));
+  }
+
+  @Test
+  void testTableSize() {
+    assertThat(new MaglevHash().getTableSize()).isEqualTo(MaglevHash.DEFAULT_TABLE_SIZE);
+    assertThat(new MaglevHash(2).getTableSize()).isEqualTo(2);
+    assertThat(new MaglevHash().getMemoryFootprint()).isZero();
+  }
+
+  @Test
+  void testIllegalArguments() {
+    assertThatIllegalArgumentException().isThrownBy(() -> new MaglevHash(65536));
+    assertThatIllegalArgumentException().isThrownBy(() -> new MaglevHash(1));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new MaglevHash(0, ForkJoinPool.commonPool()));
+    assertThatNullPointerException().isThrownBy(() -> new MaglevHash(7, null));
+    MaglevHash mapper = new MaglevHash(7);
+    assertThatIllegalArgumentException().isThrownBy(() -> mapper.getBucket(0, 0));
+    assertThatIllegalArgumentException().isThrownBy(() -> mapper.getBucket(0, 8));
+    assertThat(mapper.getBucket(0, 7)).isBetween(0, 6);
+  }
+}
@@ -0,0 +1,156 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.random.RandomGenerator;
+import org.hipparchus.stat.inference.GTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MementoJumpBackHashTest {
+
+  private static final int NUM_KEYS = 10_000;
+
+  private static MementoJumpBackHash createMapper(int numBuckets) {
+    return new MementoJumpBackHash(new SplitMix64V1(), numBuckets);
+  }
+
+  private static int[] getBuckets(MementoJumpBackHash mapper, long[] keys) {
+    int[] buckets = new int[keys.length];
+    for (int i = 0; i < keys.length; ++i) {
+      buckets[i] = mapper.getBucket(keys[i]);
+      assertThat(mapper.isWorking(buckets[i])).isTrue();
+    }
+    return buckets;
+  }
+
+  @Test
+  void testEquivalenceToJumpBackHashWithoutRemovals() {
+    RandomGenerator randomGenerator = BaseTest.RANDOM_FACTORY.create(0x0f3d7c2a9b5e1864L);
+    BucketMapper jumpBackHash = new JumpBackHash(new SplitMix64V1());
+    MementoJumpBackHash mapper = createMapper(1);
+    for (int numBuckets = 1; numBuckets <= 1000; ++numBuckets) {
+      assertThat(mapper.getNumBuckets()).isEqualTo(numBuckets);
+      for (int i = 0; i < 100; ++i) {
+        long key = randomGenerator.nextLong();
+        assertThat(mapper.getBucket(key)).isEqualTo(jumpBackHash.getBucket(key, numBuckets));
+      }
+      assertThat(mapper.addBucket()).isEqualTo(numBuckets);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {2, 10, 100, 1000})
+  void testMinimalDisruption(int initialNumBuckets) {
+    RandomGenerator randomGenerator =
+        BaseTest.RANDOM_FACTORY.create(0x5e8a1f3c7d2b9046L + initialNumBuckets);
+    long[] keys = randomGenerator.longs(NUM_KEYS).toArray();
+    MementoJumpBackHash mapper = createMapper(initialNumBuckets);
+    Deque<int[]> history = new ArrayDeque<>();
+    int[] buckets = getBuckets(mapper, keys);
+
+    for (int c = 0; c < 10 * initialNumBuckets; ++c) {
+      if (mapper.getNumBuckets() > 1 && (history.isEmpty() || randomGenerator.nextInt(3) != 0)) {
+        int removedBucket;
+        do {
+          removedBucket = randomGenerator.nextInt(initialNumBuckets + history.size());
+        } while (!mapper.isWorking(removedBucket));
+        mapper.removeBucket(removedBucket);
+        assertThat(mapper.isWorking(removedBucket)).isFalse();
+        int[] newBuckets = getBuckets(mapper, keys);
+        for (int i = 0; i < NUM_KEYS; ++i) {
+          if (buckets[i] != removedBucket) assertThat(newBuckets[i]).isEqualTo(buckets[i]);
+        }
+        history.push(buckets);
+        buckets = newBuckets;
+      } else {
+        int addedBucket = mapper.addBucket();
+        assertThat(mapper.isWorking(addedBucket)).isTrue();
+        int[] newBuckets = getBuckets(mapper, keys);
+        for (int i = 0; i < NUM_KEYS; ++i) {
+          if (newBuckets[i] != buckets[i]) assertThat(newBuckets[i]).isEqualTo(addedBucket);
+        }
+        if (!history.isEmpty()) assertThat(newBuckets).isEqualTo(history.pop());
+        buckets = newBuckets;
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {2, 10, 100, 1000})
+  void testUniformity(int initialNumBuckets) {
+    RandomGenerator randomGenerator =
+        BaseTest.RANDOM_FACTORY.create(0x93c47e1a2f6d8b05L + initialNumBuckets);
+    MementoJumpBackHash mapper = createMapper(initialNumBuckets);
+    int numRemovals = randomGenerator.nextInt(initialNumBuckets);
+    for (int i = 0; i < numRemovals; ++i) {
+      int bucket = randomGenerator.nextInt(initialNumBuckets);
+      if (mapper.isWorking(bucket)) mapper.removeBucket(bucket);
+    }
+
+    long[] counts = new long[initialNumBuckets];
+    for (int i = 0; i < 1_000_000; ++i) {
+      counts[mapper.getBucket(randomGenerator.nextLong())] += 1;
+    }
+
+    int numWorking = mapper.getNumBuckets();
+    double[] expected = new double[numWorking];
+    long[] observed = new long[numWorking];
+    for (int b = 0, j = 0; b < initialNumBuckets; ++b) {
+      if (mapper.isWorking(b)) {
+        expected[j] = 1.;
+        observed[j] = counts[b];
+        j += 1;
+      } else {
+        assertThat(counts[b]).isZero();
+      }
+    }
+    if (numWorking >= 2) {
+      assertThat(new GTest().gTest(expected, observed)).isGreaterThan(0.001);
+    }
+  }
+
+  @Test
+  void testIllegalArguments() {
+    assertThatIllegalArgumentException().isThrownBy(() -> createMapper(0));
+    MementoJumpBackHash mapper = createMapper(3);
+    assertThatIllegalArgumentException().isThrownBy(() -> mapper.removeBucket(-1));
+    assertThatIllegalArgumentException().isThrownBy(() -> mapper.removeBucket(3));
+    mapper.removeBucket(1);
+    assertThatIllegalArgumentException().isThrownBy(() -> mapper.removeBucket(1));
+    mapper.removeBucket(2);
+    assertThat(mapper.getNumBuckets()).isOne();
+    assertThatIllegalStateException().isThrownBy(() -> mapper.removeBucket(0));
+  }
+}
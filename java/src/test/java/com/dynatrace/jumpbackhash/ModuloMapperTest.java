@@ -26,10 +26,20 @@
 //
 package com.dynatrace.jumpbackhash;
 
-class ModuloMapperTest implements ChecksumTest, UniformityTest {
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.junit.jupiter.api.Test;
+
+class ModuloMapperTest implements ChecksumTest, UniformityTest, GetBucketsTest, ForBucketsTest {
 
   private static final BucketMapper MAPPER = new ModuloMapper();
 
+  @Override
+  public BucketMapper getBucketMapper() {
+    return MAPPER;
+  }
+
   @Override
   public int mapKeyToBucketIndex(long key, int numBuckets) {
     return MAPPER.getBucket(key, numBuckets);
@@ -39,4 +49,21 @@ class ModuloMapperTest implements ChecksumTest, UniformityTest {
   public long getCheckSum() {
     return 0xd73f0152f64bffcaL;
   }
+
+  @Test
+  void testZeroNumBuckets() {
+    assertThatExceptionOfType(ArithmeticException.class)
+        .isThrownBy(() -> MAPPER.getBucket(0x123L, 0));
+    assertThatExceptionOfType(ArithmeticException.class)
+        .isThrownBy(() -> MAPPER.getBuckets(new long[1], 0, new int[1]));
+  }
+
+  @Test
+  void testNegativeNumBuckets() {
+    long[] keys = {0x123L, -0x123L};
+    int[] buckets = new int[keys.length];
+    MAPPER.getBuckets(keys, -7, buckets);
+    assertThat(buckets)
+        .containsExactly(MAPPER.getBucket(keys[0], -7), MAPPER.getBucket(keys[1], -7));
+  }
 }
@@ -0,0 +1,71 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+// tests a pseudo-random generator, the uniformity tests are applied to JumpBackHash using the
+// pseudo-random generator, which mostly depends on the quality of the first values after reseeding
+interface PseudoRandomGeneratorTest extends UniformityTest {
+
+  long REFERENCE_SEED = 0x0123456789abcdefL;
+  int RESET_TEST_NUM_VALUES = 100;
+
+  PseudoRandomGenerator createPseudoRandomGenerator();
+
+  // returns the first values after resetting with REFERENCE_SEED
+  long[] getReferenceValues();
+
+  @Test
+  default void testReferenceValues() {
+    long[] referenceValues = getReferenceValues();
+    PseudoRandomGenerator randomGenerator = createPseudoRandomGenerator();
+    randomGenerator.resetWithSeed(REFERENCE_SEED);
+    for (long referenceValue : referenceValues) {
+      assertThat(randomGenerator.nextLong()).isEqualTo(referenceValue);
+    }
+  }
+
+  @Test
+  default void testResetWithSeed() {
+    PseudoRandomGenerator randomGenerator = createPseudoRandomGenerator();
+    PseudoRandomGenerator otherRandomGenerator = createPseudoRandomGenerator();
+    long[] values = new long[RESET_TEST_NUM_VALUES];
+    randomGenerator.resetWithSeed(0x5e2a7c1d9b3f4068L);
+    for (int i = 0; i < RESET_TEST_NUM_VALUES; ++i) values[i] = randomGenerator.nextLong();
+    randomGenerator.resetWithSeed(0x5e2a7c1d9b3f4068L);
+    otherRandomGenerator.resetWithSeed(0x5e2a7c1d9b3f4069L);
+    boolean differ = false;
+    for (int i = 0; i < RESET_TEST_NUM_VALUES; ++i) {
+      assertThat(randomGenerator.nextLong()).isEqualTo(values[i]);
+      differ |= otherRandomGenerator.nextLong() != values[i];
+    }
+    assertThat(differ).isTrue();
+  }
+}
@@ -0,0 +1,73 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGeneratorFactory;
+import org.junit.jupiter.api.Test;
+
+class RandomGeneratorAdapterTest implements PseudoRandomGeneratorTest {
+
+  private static final String ALGORITHM = "L64X128MixRandom";
+
+  private static final BucketMapper MAPPER = new JumpBackHash(RandomGeneratorAdapter.of(ALGORITHM));
+
+  @Override
+  public PseudoRandomGenerator createPseudoRandomGenerator() {
+    return RandomGeneratorAdapter.of(ALGORITHM);
+  }
+
+  @Override
+  public long[] getReferenceValues() {
+    return RandomGeneratorFactory.of(ALGORITHM).create(REFERENCE_SEED).longs(3).toArray();
+  }
+
+  @Override
+  public int mapKeyToBucketIndex(long key, int numBuckets) {
+    return MAPPER.getBucket(key, numBuckets);
+  }
+
+  @Test
+  void testConstructorReference() {
+    PseudoRandomGenerator randomGenerator = new RandomGeneratorAdapter(SplittableRandom::new);
+    SplittableRandom expected = new SplittableRandom(REFERENCE_SEED);
+    randomGenerator.resetWithSeed(REFERENCE_SEED);
+    for (int i = 0; i < 10; ++i) {
+      assertThat(randomGenerator.nextLong()).isEqualTo(expected.nextLong());
+    }
+  }
+
+  @Test
+  void testIllegalArguments() {
+    assertThatNullPointerException().isThrownBy(() -> new RandomGeneratorAdapter(null));
+    assertThatIllegalArgumentException().isThrownBy(() -> RandomGeneratorAdapter.of("unknown"));
+  }
+}
@@ -26,10 +26,15 @@
 //
 package com.dynatrace.jumpbackhash;
 
-class RandomMapperTest implements ChecksumTest, UniformityTest {
+class RandomMapperTest implements ChecksumTest, UniformityTest, GetBucketsTest {
 
   private static final BucketMapper MAPPER = new RandomMapper(new SplitMix64V1());
 
+  @Override
+  public BucketMapper getBucketMapper() {
+    return MAPPER;
+  }
+
   @Override
   public int mapKeyToBucketIndex(long key, int numBuckets) {
     return MAPPER.getBucket(key, numBuckets);
@@ -33,6 +33,7 @@ import java.util.*;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
 
 public class RandomValueConsumptionSimulation {
@@ -46,6 +47,8 @@ public class RandomValueConsumptionSimulation {
     return distinctCounts.stream().mapToInt(Integer::valueOf).toArray();
   }
 
+  // counts the consumed random values, 32-bit values are counted as well, as they are natively
+  // generated by 32-bit pseudo-random generators like PCG32
   private static final class CountingPseudoRandomGenerator implements PseudoRandomGenerator {
 
     private final PseudoRandomGenerator pseudoRandomGenerator;
@@ -65,6 +68,12 @@ public class RandomValueConsumptionSimulation {
       return pseudoRandomGenerator.nextLong();
     }
 
+    @Override
+    public int nextInt() {
+      count += 1;
+      return pseudoRandomGenerator.nextInt();
+    }
+
     @Override
     public void resetWithSeed(long seed) {
       count = 0;
@@ -78,10 +87,20 @@ public class RandomValueConsumptionSimulation {
 
     private final Function<PseudoRandomGenerator, BucketMapper> bucketMapperSupplier;
 
+    private final Supplier<PseudoRandomGenerator> pseudoRandomGeneratorSupplier;
+
     public Config(
         String label, Function<PseudoRandomGenerator, BucketMapper> bucketMapperSupplier) {
+      this(label, bucketMapperSupplier, SplitMix64V1::new);
+    }
+
+    public Config(
+        String label,
+        Function<PseudoRandomGenerator, BucketMapper> bucketMapperSupplier,
+        Supplier<PseudoRandomGenerator> pseudoRandomGeneratorSupplier) {
       this.label = label;
       this.bucketMapperSupplier = bucketMapperSupplier;
+      this.pseudoRandomGeneratorSupplier = pseudoRandomGeneratorSupplier;
     }
 
     String getLabel() {
@@ -100,7 +119,12 @@ public class RandomValueConsumptionSimulation {
         List.of(
             new Config("JumpHash", JumpHash::new),
             new Config("JumpBackHash", JumpBackHash::new),
-            new Config("JumpBackHash32", JumpBackHash32::new));
+            new Config("JumpBackHash32", JumpBackHash32::new),
+            new Config("JumpBackHash32PCG32", JumpBackHash32::new, PCG32::new),
+            new Config(
+                "JumpBackHash32Xoshiro128StarStar", JumpBackHash32::new, Xoshiro128StarStar::new),
+            new Config("PowerConsistentHash", PowerConsistentHash::new),
+            new Config("BinomialHash", BinomialHash::new));
 
     double[][] mean = new double[configs.size()][];
     double[][] variance = new double[configs.size()][];
@@ -125,7 +149,10 @@ public class RandomValueConsumptionSimulation {
 
                             List<CountingPseudoRandomGenerator> countingPseudoRandomGenerators =
                                 configs.stream()
-                                    .map(x -> new CountingPseudoRandomGenerator(new SplitMix64V1()))
+                                    .map(
+                                        x ->
+                                            new CountingPseudoRandomGenerator(
+                                                x.pseudoRandomGeneratorSupplier.get()))
                                     .toList();
                             List<BucketMapper> bucketMapper = new ArrayList<>(configs.size());
 
@@ -0,0 +1,187 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class RebalancePlannerTest {
+
+  private static final int NUM_KEYS = 100_000;
+
+  @TempDir Path tempDir;
+
+  private static RebalancePlanner createPlanner() {
+    // small chunks and tasks to cover chunk boundaries and parallel processing
+    return new RebalancePlanner(
+        () -> new JumpBackHash(new SplitMix64V1()), ForkJoinPool.commonPool(), 14, 1000);
+  }
+
+  private static long[] writeKeys(Path keyFile, int numKeys, long seed) throws IOException {
+    RandomGenerator randomGenerator = BaseTest.RANDOM_FACTORY.create(seed);
+    long[] keys = randomGenerator.longs(numKeys).toArray();
+    ByteBuffer buffer = ByteBuffer.allocate(numKeys * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.asLongBuffer().put(keys);
+    Files.write(keyFile, buffer.array());
+    return keys;
+  }
+
+  @ParameterizedTest
+  @CsvSource({"1,1", "1,2", "10,11", "10,20", "1000,1001", "1000,1500", "1000,100000"})
+  void testPlan(int oldNumBuckets, int newNumBuckets) throws IOException {
+    Path keyFile = tempDir.resolve("keys.bin");
+    Path outputDirectory = Files.createDirectory(tempDir.resolve("output"));
+    long[] keys = writeKeys(keyFile, NUM_KEYS, 0x3b7e1d9a5c2f8046L + newNumBuckets);
+
+    long numMovedKeys =
+        createPlanner().plan(keyFile, oldNumBuckets, newNumBuckets, outputDirectory);
+
+    BucketMapper mapper = new JumpBackHash(new SplitMix64V1());
+    Map<Long, Integer> expectedMovers = new HashMap<>();
+    for (long key : keys) {
+      int newBucket = mapper.getBucket(key, newNumBuckets);
+      if (newBucket != mapper.getBucket(key, oldNumBuckets)) expectedMovers.put(key, newBucket);
+    }
+    assertThat(numMovedKeys).isEqualTo(expectedMovers.size());
+
+    Map<Long, Integer> movers = new HashMap<>();
+    for (int bucket = 0; bucket < newNumBuckets; ++bucket) {
+      Path outputFile = RebalancePlanner.getOutputFile(outputDirectory, bucket);
+      if (!Files.exists(outputFile)) continue;
+      ByteBuffer records = ByteBuffer.wrap(Files.readAllBytes(outputFile));
+      records.order(ByteOrder.LITTLE_ENDIAN);
+      assertThat(records.remaining() % RebalancePlanner.RECORD_SIZE).isZero();
+      while (records.hasRemaining()) {
+        long key = records.getLong();
+        assertThat(records.getInt()).isEqualTo(mapper.getBucket(key, oldNumBuckets));
+        assertThat(records.getInt()).isEqualTo(bucket);
+        movers.put(key, bucket);
+      }
+    }
+    assertThat(movers).isEqualTo(expectedMovers);
+  }
+
+  @Test
+  void testPlanOverwritesExistingFiles() throws IOException {
+    Path keyFile = tempDir.resolve("keys.bin");
+    writeKeys(keyFile, NUM_KEYS, 0x5a1c8e3f7b2d9064L);
+    Path outputFile = RebalancePlanner.getOutputFile(tempDir, 10);
+    Files.write(outputFile, new byte[1 << 20]);
+
+    long numMovedKeys = createPlanner().plan(keyFile, 10, 11, tempDir);
+
+    assertThat(Files.size(outputFile)).isEqualTo(numMovedKeys * RebalancePlanner.RECORD_SIZE);
+  }
+
+  @Test
+  void testPlanDeletesStaleFiles() throws IOException {
+    Path keyFile = tempDir.resolve("keys.bin");
+    writeKeys(keyFile, NUM_KEYS, 0x2e9d4b7a1c5f8036L);
+    Path staleFile = RebalancePlanner.getOutputFile(tempDir, 1000);
+    Files.write(staleFile, new byte[RebalancePlanner.RECORD_SIZE]);
+    Path otherFile = Files.write(tempDir.resolve("bucket-other.bin"), new byte[1]);
+
+    createPlanner().plan(keyFile, 10, 11, tempDir);
+
+    assertThat(staleFile).doesNotExist();
+    assertThat(otherFile).exists();
+  }
+
+  @Test
+  void testMapperFailure() throws IOException {
+    Path keyFile = tempDir.resolve("keys.bin");
+    writeKeys(keyFile, NUM_KEYS, 0x6a3f8c1e9d2b5047L);
+    RebalancePlanner planner =
+        new RebalancePlanner(
+            () ->
+                (key, numBuckets) -> {
+                  throw new IllegalStateException();
+                },
+            ForkJoinPool.commonPool(),
+            14,
+            1000);
+    assertThatIllegalStateException().isThrownBy(() -> planner.plan(keyFile, 10, 11, tempDir));
+    assertThat(createPlanner().plan(keyFile, 10, 11, tempDir)).isPositive();
+  }
+
+  @Test
+  void testDefaultConfiguration() throws IOException {
+    Path keyFile = tempDir.resolve("keys.bin");
+    writeKeys(keyFile, 1000, 0x1f6d3b8a2c5e7049L);
+    RebalancePlanner planner =
+        new RebalancePlanner(() -> new JumpHash(new SplitMix64V1()), ForkJoinPool.commonPool());
+    assertThat(planner.plan(keyFile, 1, 1, tempDir)).isZero();
+    assertThat(planner.plan(keyFile, 1, 2, tempDir)).isBetween(400L, 600L);
+  }
+
+  @Test
+  void testIllegalArguments() throws IOException {
+    Path keyFile = tempDir.resolve("keys.bin");
+    RebalancePlanner planner = createPlanner();
+    Files.write(keyFile, new byte[12]);
+    assertThatIllegalArgumentException().isThrownBy(() -> planner.plan(keyFile, 0, 1, tempDir));
+    assertThatIllegalArgumentException().isThrownBy(() -> planner.plan(keyFile, 2, 1, tempDir));
+    assertThatIllegalArgumentException().isThrownBy(() -> planner.plan(keyFile, 1, 2, tempDir));
+  }
+
+  @Test
+  void testMissingOutputDirectory() throws IOException {
+    Path keyFile = tempDir.resolve("keys.bin");
+    writeKeys(keyFile, 1000, 0x7c2e9a4f1d6b3058L);
+    assertThatExceptionOfType(IOException.class)
+        .isThrownBy(() -> createPlanner().plan(keyFile, 1, 2, tempDir.resolve("missing")));
+  }
+
+  @Test
+  void testWriteFailure() throws IOException {
+    Path fullDevice = Paths.get("/dev/full");
+    assumeTrue(Files.exists(fullDevice));
+    Path keyFile = tempDir.resolve("keys.bin");
+    writeKeys(keyFile, 1000, 0x4e8b2d6a9f1c3057L);
+    Files.createSymbolicLink(RebalancePlanner.getOutputFile(tempDir, 1), fullDevice);
+    assertThatExceptionOfType(IOException.class)
+        .isThrownBy(() -> createPlanner().plan(keyFile, 1, 2, tempDir));
+  }
+}
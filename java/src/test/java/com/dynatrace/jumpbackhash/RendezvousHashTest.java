@@ -0,0 +1,218 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.random.RandomGenerator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import org.hipparchus.stat.inference.GTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class RendezvousHashTest implements DistinctBucketsTest, DisruptionTest {
+
+  private static final RendezvousHash MAPPER = new RendezvousHash();
+
+  @Override
+  public BucketMapper getBucketMapper() {
+    return MAPPER;
+  }
+
+  @Override
+  public int mapKeyToBucketIndex(long key, int numBuckets) {
+    return MAPPER.getBucket(key, numBuckets);
+  }
+
+  @Override
+  public double getMaxDisruptionRatio(int numBuckets) {
+    return 1.1;
+  }
+
+  // scalar reference implementation
+  private static int getBucketScalar(long hash, int numBuckets) {
+    int bucket = 0;
+    long maxScore = -1;
+    for (int b = 0; b < numBuckets; ++b) {
+      long score = RendezvousHash.score(hash, b);
+      if (score > maxScore) {
+        maxScore = score;
+        bucket = b;
+      }
+    }
+    return bucket;
+  }
+
+  @Test
+  void testGetBucketConsistentWithScalar() {
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x5e2a8c1f7d3b9046L);
+    for (int numBuckets = 1; numBuckets <= 100; ++numBuckets) {
+      for (int i = 0; i < 100; ++i) {
+        long hash = randomGenerator.nextLong();
+        assertThat(MAPPER.getBucket(hash, numBuckets)).isEqualTo(getBucketScalar(hash, numBuckets));
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {2, 3, 5, 8, 13, 100, 1000})
+  void testUniformity(int numBuckets) {
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x1b7d4f9a2e6c3085L + numBuckets);
+    long[] counts = new long[numBuckets];
+    for (int i = 0; i < 100_000; ++i) {
+      counts[MAPPER.getBucket(randomGenerator.nextLong(), numBuckets)] += 1;
+    }
+    double[] expected = DoubleStream.generate(() -> 1.).limit(numBuckets).toArray();
+    assertThat(new GTest().gTest(expected, counts)).isGreaterThan(0.001);
+  }
+
+  @Test
+  void testMonotonicity() {
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x4c9e1a7d3f5b2068L);
+    long[] keys = randomGenerator.longs(1000).toArray();
+    int[] oldBuckets = new int[keys.length];
+    for (int numBuckets = 1; numBuckets <= 300; ++numBuckets) {
+      for (int i = 0; i < keys.length; ++i) {
+        int newBucket = MAPPER.getBucket(keys[i], numBuckets);
+        if (newBucket != oldBuckets[i]) {
+          assertThat(newBucket).isEqualTo(numBuckets - 1);
+          oldBuckets[i] = newBucket;
+        }
+      }
+    }
+  }
+
+  @Test
+  void testGetDistinctBucketsAreTopScored() {
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x7f3a9c5e1d2b8064L);
+    for (int i = 0; i < 1000; ++i) {
+      long hash = randomGenerator.nextLong();
+      int numBuckets = randomGenerator.nextInt(1, 50);
+      int[] buckets = new int[randomGenerator.nextInt(numBuckets + 1)];
+      MAPPER.getDistinctBuckets(hash, numBuckets, buckets);
+      int[] expected =
+          IntStream.range(0, numBuckets)
+              .boxed()
+              .sorted(
+                  Comparator.comparingLong((Integer b) -> RendezvousHash.score(hash, b))
+                      .reversed()
+                      .thenComparingInt(b -> b))
+              .limit(buckets.length)
+              .mapToInt(b -> b)
+              .toArray();
+      assertThat(buckets).isEqualTo(expected);
+    }
+  }
+
+  // scalar reference implementation of the logarithmic method
+  private static int getBucketWeightedScalar(long hash, double[] weights) {
+    int bucket = 0;
+    double maxScore = -1;
+    for (int b = 0; b < weights.length; ++b) {
+      long randomValue = SplitMix64V1.mix(hash + (b + 1L) * SplitMix64V1.GOLDEN_GAMMA);
+      double u = ((randomValue >>> 11) + 0.5) * 0x1p-53;
+      double score = weights[b] / -StrictMath.log(u);
+      if (score > maxScore) {
+        maxScore = score;
+        bucket = b;
+      }
+    }
+    return bucket;
+  }
+
+  @Test
+  void testGetBucketWeightedConsistentWithScalar() {
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x0e6c3a9f5b1d7248L);
+    for (int numBuckets = 1; numBuckets <= 100; ++numBuckets) {
+      double[] weights = randomGenerator.doubles(numBuckets, 0., 5.).toArray();
+      for (int i = 0; i < 100; ++i) {
+        long hash = randomGenerator.nextLong();
+        assertThat(MAPPER.getBucket(hash, weights))
+            .isEqualTo(getBucketWeightedScalar(hash, weights));
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 7, 10, 100})
+  void testWeightedUniformity(int numBuckets) {
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x2d6b8f3a1c9e4075L + numBuckets);
+    double[] weights = new double[numBuckets];
+    for (int b = 0; b < numBuckets; ++b) weights[b] = randomGenerator.nextDouble(0.1, 10.);
+    if (numBuckets > 2) weights[1] = 0; // never chosen
+    long[] counts = new long[numBuckets];
+    for (int i = 0; i < 100_000; ++i) {
+      counts[MAPPER.getBucket(randomGenerator.nextLong(), weights)] += 1;
+    }
+    if (numBuckets > 2) {
+      assertThat(counts[1]).isZero();
+      weights = Arrays.stream(weights).filter(w -> w > 0).toArray();
+      counts = Arrays.stream(counts).filter(c -> c > 0).toArray();
+    }
+    if (weights.length >= 2) {
+      assertThat(new GTest().gTest(weights, counts)).isGreaterThan(0.001);
+    } else {
+      assertThat(counts).containsExactly(100_000);
+    }
+  }
+
+  @Test
+  void testWeightedIncrease() {
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x6a1e4c8f2b7d3095L);
+    double[] weights = randomGenerator.doubles(13, 1., 2.).toArray();
+    double[] increasedWeights = weights.clone();
+    increasedWeights[5] *= 2;
+    long numMoved = 0;
+    for (int i = 0; i < 100_000; ++i) {
+      long hash = randomGenerator.nextLong();
+      int oldBucket = MAPPER.getBucket(hash, weights);
+      int newBucket = MAPPER.getBucket(hash, increasedWeights);
+      if (oldBucket != newBucket) {
+        assertThat(newBucket).isEqualTo(5);
+        numMoved += 1;
+      }
+    }
+    assertThat(numMoved).isPositive();
+  }
+
+  @Test
+  void testEqualWeightsIndependentOfScale() {
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x3f8c2a6e9d1b5047L);
+    double[] weights = new double[37];
+    double[] otherWeights = new double[37];
+    Arrays.fill(weights, 1.);
+    Arrays.fill(otherWeights, 1000.);
+    for (int i = 0; i < 10_000; ++i) {
+      long hash = randomGenerator.nextLong();
+      assertThat(MAPPER.getBucket(hash, weights)).isEqualTo(MAPPER.getBucket(hash, otherWeights));
+    }
+  }
+}
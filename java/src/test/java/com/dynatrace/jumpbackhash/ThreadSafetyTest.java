@@ -0,0 +1,64 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+interface ThreadSafetyTest extends BaseTest {
+
+  int THREAD_SAFETY_TEST_NUM_KEYS = 1_000_000;
+
+  @Test
+  default void testThreadSafety() {
+
+    RandomGenerator randomGenerator = RANDOM_FACTORY.create(0x2c1d9b5cf0b4d1a7L);
+
+    long[] hashes = randomGenerator.longs(THREAD_SAFETY_TEST_NUM_KEYS).toArray();
+    int[] numBuckets =
+        randomGenerator
+            .ints(THREAD_SAFETY_TEST_NUM_KEYS)
+            .map(i -> Math.max(1, i >>> 1 >>> randomGenerator.nextInt()))
+            .toArray();
+
+    int[] expected = new int[THREAD_SAFETY_TEST_NUM_KEYS];
+    for (int i = 0; i < THREAD_SAFETY_TEST_NUM_KEYS; ++i) {
+      expected[i] = mapKeyToBucketIndex(hashes[i], numBuckets[i]);
+    }
+
+    int[] actual =
+        IntStream.range(0, THREAD_SAFETY_TEST_NUM_KEYS)
+            .parallel()
+            .map(i -> mapKeyToBucketIndex(hashes[i], numBuckets[i]))
+            .toArray();
+
+    assertThat(actual).isEqualTo(expected);
+  }
+}
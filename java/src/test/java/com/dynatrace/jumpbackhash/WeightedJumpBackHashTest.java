@@ -0,0 +1,184 @@
+//
+// Copyright (c) 2026 Dynatrace LLC. All rights reserved.
+//
+// This software and associated documentation files (the "Software")
+// are being made available by Dynatrace LLC for the sole purpose of
+// illustrating the implementation of certain algorithms which have
+// been published by Dynatrace LLC. Permission is hereby granted,
+// free of charge, to any person obtaining a copy of the Software,
+// to view and use the Software for internal, non-production,
+// non-commercial purposes only – the Software may not be used to
+// process live data or distributed, sublicensed, modified and/or
+// sold either alone or as part of or in combination with any other
+// software.
+//
+// The above copyright notice and this permission notice shall be
+// included in all copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+// EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+// OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+// NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+// HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+// WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+// DEALINGS IN THE SOFTWARE.
+//
+package com.dynatrace.jumpbackhash;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+import org.hipparchus.stat.inference.GTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class WeightedJumpBackHashTest {
+
+  private static final int NUM_CYCLES = 1_000_000;
+  private static final int MAX_WEIGHT = 1000;
+
+  private static final WeightedJumpBackHash MAPPER = new WeightedJumpBackHash(new SplitMix64V1());
+
+  private static int[] randomWeights(int numBuckets, RandomGenerator randomGenerator) {
+    int[] weights = new int[numBuckets];
+    for (int i = 0; i < numBuckets; ++i) {
+      weights[i] = randomGenerator.nextInt(MAX_WEIGHT + 1);
+    }
+    weights[numBuckets - 1] = MAX_WEIGHT; // the last bucket must have maximum weight
+    return weights;
+  }
+
+  private static double[] toDoubleWeights(int[] weights) {
+    return Arrays.stream(weights).mapToDouble(w -> w / (double) MAX_WEIGHT).toArray();
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 5, 10, 17, 100})
+  void testWeightedUniformity(int numBuckets) {
+    RandomGenerator randomGenerator =
+        BaseTest.RANDOM_FACTORY.create(0x4c1d3a9f2e0b5d87L + numBuckets);
+    int[] weights = randomWeights(numBuckets, randomGenerator);
+    double[] doubleWeights = toDoubleWeights(weights);
+
+    long[] counts = new long[numBuckets];
+    long[] doubleCounts = new long[numBuckets];
+    for (int i = 0; i < NUM_CYCLES; ++i) {
+      long hash = randomGenerator.nextLong();
+      counts[MAPPER.getBucket(hash, numBuckets, weights, MAX_WEIGHT)] += 1;
+      doubleCounts[MAPPER.getBucket(hash, numBuckets, doubleWeights)] += 1;
+    }
+
+    int numPositive = (int) Arrays.stream(weights).filter(w -> w > 0).count();
+    double[] expected = new double[numPositive];
+    long[] observed = new long[numPositive];
+    long[] doubleObserved = new long[numPositive];
+    for (int i = 0, j = 0; i < numBuckets; ++i) {
+      if (weights[i] > 0) {
+        expected[j] = weights[i];
+        observed[j] = counts[i];
+        doubleObserved[j] = doubleCounts[i];
+        j += 1;
+      } else {
+        assertThat(counts[i]).isZero();
+        assertThat(doubleCounts[i]).isZero();
+      }
+    }
+    if (numPositive >= 2) {
+      assertThat(new GTest().gTest(expected, observed)).isGreaterThan(0.001);
+      assertThat(new GTest().gTest(expected, doubleObserved)).isGreaterThan(0.001);
+    }
+  }
+
+  @Test
+  void testMinimalMovementOnWeightChange() {
+    RandomGenerator randomGenerator = BaseTest.RANDOM_FACTORY.create(0x9a3f6b2d1c8e7045L);
+    int numBuckets = 50;
+    for (int c = 0; c < 100; ++c) {
+      int[] weights = randomWeights(numBuckets, randomGenerator);
+      int[] newWeights = weights.clone();
+      int changedBucket = randomGenerator.nextInt(numBuckets - 1);
+      newWeights[changedBucket] = randomGenerator.nextInt(MAX_WEIGHT + 1);
+      double[] doubleWeights = toDoubleWeights(weights);
+      double[] newDoubleWeights = toDoubleWeights(newWeights);
+      boolean increased = newWeights[changedBucket] >= weights[changedBucket];
+      for (int i = 0; i < 1000; ++i) {
+        long hash = randomGenerator.nextLong();
+        int before = MAPPER.getBucket(hash, numBuckets, weights, MAX_WEIGHT);
+        int after = MAPPER.getBucket(hash, numBuckets, newWeights, MAX_WEIGHT);
+        int doubleBefore = MAPPER.getBucket(hash, numBuckets, doubleWeights);
+        int doubleAfter = MAPPER.getBucket(hash, numBuckets, newDoubleWeights);
+        if (increased) {
+          assertThat(after).isIn(before, changedBucket);
+          assertThat(doubleAfter).isIn(doubleBefore, changedBucket);
+        } else {
+          if (before != changedBucket) assertThat(after).isEqualTo(before);
+          if (doubleBefore != changedBucket) assertThat(doubleAfter).isEqualTo(doubleBefore);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testMinimalMovementOnAppend() {
+    RandomGenerator randomGenerator = BaseTest.RANDOM_FACTORY.create(0x1e7b40c95d2a8f36L);
+    for (int c = 0; c < 100; ++c) {
+      int numBuckets = randomGenerator.nextInt(1, 100);
+      int[] weights = Arrays.copyOf(randomWeights(numBuckets, randomGenerator), numBuckets + 1);
+      weights[numBuckets] = MAX_WEIGHT;
+      double[] doubleWeights = toDoubleWeights(weights);
+      for (int i = 0; i < 1000; ++i) {
+        long hash = randomGenerator.nextLong();
+        int before = MAPPER.getBucket(hash, numBuckets, weights, MAX_WEIGHT);
+        int after = MAPPER.getBucket(hash, numBuckets + 1, weights, MAX_WEIGHT);
+        assertThat(after).isIn(before, numBuckets);
+        int doubleBefore = MAPPER.getBucket(hash, numBuckets, doubleWeights);
+        int doubleAfter = MAPPER.getBucket(hash, numBuckets + 1, doubleWeights);
+        assertThat(doubleAfter).isIn(doubleBefore, numBuckets);
+      }
+    }
+  }
+
+  @Test
+  void testLightAppendIsRejected() {
+    RandomGenerator randomGenerator = BaseTest.RANDOM_FACTORY.create(0x73c2e9a05b1d4f68L);
+    for (int c = 0; c < 100; ++c) {
+      int numBuckets = randomGenerator.nextInt(1, 100);
+      int[] weights = Arrays.copyOf(randomWeights(numBuckets, randomGenerator), numBuckets + 1);
+      weights[numBuckets] = randomGenerator.nextInt(MAX_WEIGHT);
+      double[] doubleWeights = toDoubleWeights(weights);
+      long hash = randomGenerator.nextLong();
+      assertThatIllegalArgumentException()
+          .isThrownBy(() -> MAPPER.getBucket(hash, numBuckets + 1, weights, MAX_WEIGHT));
+      assertThatIllegalArgumentException()
+          .isThrownBy(() -> MAPPER.getBucket(hash, numBuckets + 1, doubleWeights));
+    }
+  }
+
+  @Test
+  void testSingleBucket() {
+    assertThat(MAPPER.getBucket(0x123L, 1, new int[] {MAX_WEIGHT}, MAX_WEIGHT)).isZero();
+    assertThat(MAPPER.getBucket(0x123L, 1, new double[] {1.})).isZero();
+  }
+
+  @Test
+  void testMaxWeightsEquivalentToJumpBackHash() {
+    RandomGenerator randomGenerator = BaseTest.RANDOM_FACTORY.create(0x6d2b8f0e4a1c7359L);
+    BucketMapper unweightedMapper = new JumpBackHash(new SplitMix64V1());
+    for (int c = 0; c < 100; ++c) {
+      int numBuckets = randomGenerator.nextInt(1, 1000);
+      int[] weights = new int[numBuckets];
+      Arrays.fill(weights, MAX_WEIGHT);
+      double[] doubleWeights = toDoubleWeights(weights);
+      for (int i = 0; i < 100; ++i) {
+        long hash = randomGenerator.nextLong();
+        int expected = unweightedMapper.getBucket(hash, numBuckets);
+        assertThat(MAPPER.getBucket(hash, numBuckets, weights, MAX_WEIGHT)).isEqualTo(expected);
+        assertThat(MAPPER.getBucket(hash, numBuckets, doubleWeights)).isEqualTo(expected);
+      }
+    }
+  }
+}
@@ -0,0 +1,67 @@
+#
+# Copyright (c) 2024 Dynatrace LLC. All rights reserved.
+#
+# This software and associated documentation files (the "Software")
+# are being made available by Dynatrace LLC for the sole purpose of
+# illustrating the implementation of certain algorithms which have
+# been published by Dynatrace LLC. Permission is hereby granted,
+# free of charge, to any person obtaining a copy of the Software,
+# to view and use the Software for internal, non-production,
+# non-commercial purposes only – the Software may not be used to
+# process live data or distributed, sublicensed, modified and/or
+# sold either alone or as part of or in combination with any other
+# software.
+#
+# The above copyright notice and this permission notice shall be
+# included in all copies or substantial portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+# EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+# OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+# NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+# HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+# WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+# DEALINGS IN THE SOFTWARE.
+#
+import json
+
+events = ["instructions", "branches", "branch-misses"]
+tests = ["JumpBackHash", "JumpBackHashBranchFree"]
+
+
+# prints the average time and the perf events per call of JumpBackHash and
+# JumpBackHashBranchFree for each number of buckets as measured by the
+# runBranchProfile task
+def report_branch_profile(input_file):
+
+    f = open(input_file)
+    data = json.load(f)
+
+    d = {}
+    for r in data:
+        test_name = r["benchmark"].split(".")[-2][: -len("PerformanceTest")]
+        if test_name not in tests:
+            continue
+        n = int(r["params"]["numBuckets"])
+        # older JMH versions prefix the names of secondary metrics with a middle dot
+        metrics = {k.lstrip("·"): v for k, v in r["secondaryMetrics"].items()}
+        values = [float(r["primaryMetric"]["score"])]
+        values += [float(metrics[e]["score"]) for e in events]
+        d.setdefault(n, {})[test_name] = values
+
+    columns = ["time (ns)"] + events
+    print(f"{'':>10}" + "".join(f"{t:>{15 * len(columns)}}" for t in tests))
+    print(f"{'buckets':>10}" + "".join(f"{c:>15}" for c in columns) * len(tests))
+    for n in sorted(d):
+        line = f"{n:>10}"
+        for t in tests:
+            values = d[n].get(t)
+            if values is None:
+                line += f"{'':>15}" * len(columns)
+            else:
+                line += "".join(f"{v:>15.2f}" for v in values)
+        print(line)
+
+
+report_branch_profile("results/branch-profile-results.json")
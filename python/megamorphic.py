@@ -0,0 +1,71 @@
+#
+# Copyright (c) 2024 Dynatrace LLC. All rights reserved.
+#
+# This software and associated documentation files (the "Software")
+# are being made available by Dynatrace LLC for the sole purpose of
+# illustrating the implementation of certain algorithms which have
+# been published by Dynatrace LLC. Permission is hereby granted,
+# free of charge, to any person obtaining a copy of the Software,
+# to view and use the Software for internal, non-production,
+# non-commercial purposes only – the Software may not be used to
+# process live data or distributed, sublicensed, modified and/or
+# sold either alone or as part of or in combination with any other
+# software.
+#
+# The above copyright notice and this permission notice shall be
+# included in all copies or substantial portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+# EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+# OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+# NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+# HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+# WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+# DEALINGS IN THE SOFTWARE.
+#
+import json
+
+
+# prints for each benchmark method, bucket mapper, and number of buckets the average
+# time of MegamorphicPerformanceTest and the slowdown relative to the monomorphic case
+# (numTypes = 1) as measured by the runMegamorphicBenchmarks task
+def report_degradation(input_file):
+
+    f = open(input_file)
+    data = json.load(f)
+
+    prefix = "com.dynatrace.jumpbackhash.MegamorphicPerformanceTest."
+    d = {}
+    for r in data:
+        if not r["benchmark"].startswith(prefix):
+            continue
+        method = r["benchmark"][len(prefix) :]
+        mapper = r["params"]["mapperName"]
+        n = int(r["params"]["numBuckets"])
+        t = int(r["params"]["numTypes"])
+        d.setdefault((method, mapper, n), {})[t] = float(r["primaryMetric"]["score"])
+
+    num_types_values = sorted({t for times in d.values() for t in times})
+
+    print(
+        f"{'benchmark':<16}{'mapper':<26}{'buckets':>9}"
+        + "".join(f"{'t=' + str(t) + ' (ns)':>13}" for t in num_types_values)
+        + "".join(f"{'t=' + str(t) + '/t=1':>10}" for t in num_types_values if t != 1)
+    )
+    for method, mapper, n in sorted(d):
+        times = d[(method, mapper, n)]
+        line = f"{method:<16}{mapper:<26}{n:>9}"
+        for t in num_types_values:
+            line += f"{times[t]:>13.2f}" if t in times else f"{'':>13}"
+        for t in num_types_values:
+            if t == 1:
+                continue
+            if t in times and 1 in times:
+                line += f"{times[t] / times[1]:>10.2f}"
+            else:
+                line += f"{'':>10}"
+        print(line)
+
+
+report_degradation("results/megamorphic-results.json")